@@ -0,0 +1,57 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.Game;
+import com.snakeladder.factories.BoardFactory;
+import com.snakeladder.models.*;
+import com.snakeladder.services.DiceService;
+import com.snakeladder.strategies.*;
+
+public final class BenchmarkFixtures {
+    
+    public enum BoardType {
+        EASY, MEDIUM, HARD;
+        
+        Board create() {
+            switch (this) {
+                case EASY: return BoardFactory.createEasyBoard();
+                case MEDIUM: return BoardFactory.createMediumBoard();
+                default: return BoardFactory.createHardBoard();
+            }
+        }
+    }
+    
+    // The two strategy combinations played by GameDemo
+    public enum RuleSet {
+        CLASSIC, RELAXED;
+        
+        Game.Builder builder(Board board, long seed) {
+            if (this == CLASSIC) {
+                return Game.builder()
+                    .withBoard(board)
+                    .addPlayer(new HumanPlayer("Alice"))
+                    .addPlayer(new HumanPlayer("Bob"))
+                    .addPlayer(new BotPlayer("Bot A"))
+                    .withDiceService(new DiceService(1, seed))
+                    .withWinningStrategy(new ExactWinStrategy())
+                    .withStartStrategy(new SixToStartStrategy())
+                    .withSpecialRule(new RestartOnThreeSixesStrategy())
+                    .withCollisionStrategy(new KillCollisionStrategy())
+                    .withTurnContinuationStrategy(new RollAgainOnSixStrategy())
+                    .withEventListener(null);
+            }
+            return Game.builder()
+                .withBoard(board)
+                .addPlayer(new HumanPlayer("Charlie"))
+                .addPlayer(new BotPlayer("Bot2"))
+                .withDiceService(new DiceService(2, seed))
+                .withWinningStrategy(new OvershootWinStrategy())
+                .withStartStrategy(new NormalStartStrategy())
+                .withSpecialRule(new SkipTurnOnThreeSixesStrategy())
+                .withCollisionStrategy(new NoCollisionStrategy())
+                .withTurnContinuationStrategy(new NoExtraTurnsStrategy())
+                .withEventListener(null);
+        }
+    }
+    
+    private BenchmarkFixtures() {}
+}
@@ -0,0 +1,46 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.factories.BoardFactory;
+import com.snakeladder.models.Board;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public BenchmarkFixtures.BoardType board;
+    
+    private Board mutableBoard;
+    private Board compiledBoard;
+    private int position;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        mutableBoard = board.create();
+        compiledBoard = mutableBoard.compile();
+    }
+    
+    @Benchmark
+    public int applyEntityMutable() {
+        position = position >= mutableBoard.getSize() ? 1 : position + 1;
+        return mutableBoard.applyEntity(position);
+    }
+    
+    @Benchmark
+    public int applyEntityCompiled() {
+        position = position >= compiledBoard.getSize() ? 1 : position + 1;
+        return compiledBoard.applyEntity(position);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Board createHardBoard() {
+        return BoardFactory.createHardBoard();
+    }
+}
@@ -0,0 +1,48 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.models.Dice;
+import com.snakeladder.services.DiceService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+    
+    @Param({"1", "2", "4", "6"})
+    public int diceCount;
+    
+    private DiceService diceService;
+    private final int[] buffer = new int[1024];
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        diceService = new DiceService(diceCount, 42L);
+    }
+    
+    @Benchmark
+    public int roll() {
+        return diceService.roll();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int[] rollBulk() {
+        diceService.roll(buffer);
+        return buffer;
+    }
+    
+    @Benchmark
+    public boolean containsSix() {
+        return diceService.contains(6);
+    }
+    
+    @Benchmark
+    public int sharedDiceRollMultiple() {
+        return Dice.INSTANCE.rollMultiple(diceCount);
+    }
+}
@@ -0,0 +1,54 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.Game;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+    
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public BenchmarkFixtures.BoardType board;
+    
+    @Param({"CLASSIC", "RELAXED"})
+    public BenchmarkFixtures.RuleSet rules;
+    
+    private Game game;
+    
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TurnCounter {
+        public long turns;
+        
+        @Setup(Level.Iteration)
+        public void clear() {
+            turns = 0;
+        }
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = rules.builder(board.create(), 42L).build();
+    }
+    
+    @Benchmark
+    public int playGame(TurnCounter counter) {
+        game.reset();
+        game.play();
+        counter.turns += game.getTurnCount();
+        return game.getWinnerIndex();
+    }
+    
+    @Benchmark
+    public Game buildAndPlayGame(TurnCounter counter) {
+        Game fresh = rules.builder(board.create(), 42L).build();
+        fresh.play();
+        counter.turns += fresh.getTurnCount();
+        return fresh;
+    }
+}
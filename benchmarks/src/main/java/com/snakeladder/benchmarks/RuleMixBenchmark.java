@@ -0,0 +1,70 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.*;
+import com.snakeladder.models.Board;
+import com.snakeladder.models.HumanPlayer;
+import com.snakeladder.services.DiceService;
+import com.snakeladder.strategies.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Plays all 32 combinations of the built-in strategies in rotation, so every strategy call site in
+// the turn loop sees many receiver types, as in a process serving several rule mixes
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleMixBenchmark {
+    private static final int MIXES = 32;
+    
+    @Param({"MEDIUM"})
+    public BenchmarkFixtures.BoardType board;
+    
+    private final Game[] games = new Game[MIXES];
+    
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class TurnCounter {
+        public long turns;
+        
+        @Setup(Level.Iteration)
+        public void clear() {
+            turns = 0;
+        }
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Board layout = board.create();
+        for (int mix = 0; mix < MIXES; mix++) {
+            games[mix] = Game.builder()
+                .withBoard(layout)
+                .addPlayer(new HumanPlayer("A"))
+                .addPlayer(new HumanPlayer("B"))
+                .withDiceService(new DiceService(1, 42L + mix))
+                .withWinningStrategy((mix & 1) == 0 ? new ExactWinStrategy() : new OvershootWinStrategy())
+                .withStartStrategy((mix & 2) == 0 ? new NormalStartStrategy() : new SixToStartStrategy())
+                .withSpecialRule((mix & 4) == 0 ? new RestartOnThreeSixesStrategy() : new SkipTurnOnThreeSixesStrategy())
+                .withCollisionStrategy((mix & 8) == 0 ? new NoCollisionStrategy() : new KillCollisionStrategy())
+                .withTurnContinuationStrategy((mix & 16) == 0 ? new NoExtraTurnsStrategy() : new RollAgainOnSixStrategy())
+                .withEventListener(null)
+                .build();
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MIXES)
+    public int playEveryMix(TurnCounter counter) {
+        int winners = 0;
+        for (Game game : games) {
+            game.reset();
+            game.play();
+            counter.turns += game.getTurnCount();
+            winners += game.getWinnerIndex();
+        }
+        return winners;
+    }
+}
@@ -0,0 +1,51 @@
+package com.snakeladder.benchmarks;
+
+import com.snakeladder.Game;
+import com.snakeladder.simulation.LockstepSimulator;
+import com.snakeladder.simulation.SimulationEngine;
+import com.snakeladder.simulation.SimulationResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SimulationBenchmark {
+    private static final int GAMES = 10_000;
+    
+    @Param({"CLASSIC", "RELAXED"})
+    public BenchmarkFixtures.RuleSet rules;
+    
+    private SimulationEngine engine;
+    private LockstepSimulator scalar;
+    private LockstepSimulator vector;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Game.Builder builder = rules.builder(BenchmarkFixtures.BoardType.MEDIUM.create(), 42L);
+        engine = new SimulationEngine(builder);
+        scalar = new LockstepSimulator(builder, LockstepSimulator.DEFAULT_LANES, false);
+        vector = new LockstepSimulator(builder, LockstepSimulator.DEFAULT_LANES, LockstepSimulator.vectorSupported());
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationResult engine() {
+        return engine.run(GAMES);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationResult lockstepScalar() {
+        return scalar.run(GAMES);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationResult lockstepVector() {
+        return vector.run(GAMES);
+    }
+}
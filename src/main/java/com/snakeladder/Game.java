@@ -1,12 +1,21 @@
 package com.snakeladder;
 
+import com.snakeladder.factories.BoardRegistry;
 import com.snakeladder.interfaces.*;
+import com.snakeladder.listeners.ConsoleGameEventListener;
+import com.snakeladder.metrics.GameMetrics;
+import com.snakeladder.metrics.GameMetrics.Counter;
+import com.snakeladder.metrics.GameMetrics.Timer;
 import com.snakeladder.models.Board;
+import com.snakeladder.models.OccupancyIndex;
+import com.snakeladder.models.PlayerStateStore;
 import com.snakeladder.services.DiceService;
+import com.snakeladder.strategies.CompiledRuleSet;
 import java.util.*;
 
 public final class Game {
     private final Board board;
+    private final PlayerStateStore state;
     private final List<Player> players;
     private final DiceService diceService;
     private final WinningStrategy winStrategy;
@@ -14,26 +23,55 @@ public final class Game {
     private final SpecialRuleStrategy specialRule;
     private final CollisionStrategy collisionStrategy;
     private final TurnContinuationStrategy turnContinuationStrategy;
+    private final CompiledRuleSet rules;
+    private final GameEventListener listener;
+    private final OccupancyIndex occupancy;
+    private final int[] collisionCandidates;
+    private final boolean diceChoice;
+    private final MoveDecider[] deciders;
+    private final int[] diceBuffer;
     
     private int currentPlayerIndex = 0;
-    private Player winner;
+    private int winnerIndex = -1;
     private boolean gameOver = false;
+    private boolean announced = false;
+    private int turnCount = 0;
+    private int snakeHits = 0;
+    private int ladderHits = 0;
+    private int lastRoll = 0;
+    private int timingCountdown = 0;
     
     private Game(Builder builder) {
-        this.board = builder.board;
-        this.players = deepCopyPlayers(builder.players);
+        Board compiled = builder.chainResolution ? builder.board.compile(true) : builder.board.compile();
+        this.board = builder.sharedBoard ? BoardRegistry.shared().intern(compiled) : compiled;
+        this.state = new PlayerStateStore(builder.players);
+        this.players = state.views();
         this.diceService = builder.diceService;
+        this.diceService.attach(this);
         this.winStrategy = builder.winStrategy;
         this.startStrategy = builder.startStrategy;
         this.specialRule = builder.specialRule;
         this.collisionStrategy = builder.collisionStrategy;
         this.turnContinuationStrategy = builder.turnContinuationStrategy;
+        this.rules = CompiledRuleSet.compile(winStrategy, startStrategy, specialRule, collisionStrategy, turnContinuationStrategy);
+        // Each game gets its own console listener unless one was set explicitly
+        this.listener = builder.listenerSet ? builder.listener : new ConsoleGameEventListener();
+        this.occupancy = new OccupancyIndex(board.getSize() + 1, state.size());
+        this.state.attachOccupancy(occupancy);
+        this.collisionCandidates = new int[state.size()];
+        this.diceChoice = builder.diceChoice;
+        this.deciders = new MoveDecider[state.size()];
+        for (int seat = 0; seat < deciders.length; seat++) {
+            Player player = builder.players.get(seat);
+            deciders[seat] = player instanceof MoveDecider ? (MoveDecider) player : null;
+        }
+        this.diceBuffer = new int[diceService.getDiceCount()];
     }
     
-    private List<Player> deepCopyPlayers(List<Player> originalPlayers) {
+    private List<Player> deepCopyPlayers() {
         List<Player> copiedPlayers = new ArrayList<>();
-        for (Player player : originalPlayers) {
-            copiedPlayers.add(player.copy());
+        for (int seat = 0; seat < state.size(); seat++) {
+            copiedPlayers.add(state.detach(seat));
         }
         return copiedPlayers;
     }
@@ -51,6 +89,11 @@ public final class Game {
         private SpecialRuleStrategy specialRule;
         private CollisionStrategy collisionStrategy;
         private TurnContinuationStrategy turnContinuationStrategy;
+        private GameEventListener listener;
+        private boolean listenerSet = false;
+        private boolean chainResolution = false;
+        private boolean diceChoice = false;
+        private boolean sharedBoard = false;
         
         private Builder() {}
         
@@ -69,6 +112,9 @@ public final class Game {
             return this;
         }
         
+        // Every game built from this builder rolls this same instance; DiceService is not thread-safe, so games
+        // played on different threads (e.g. on GameSessionManager shards) each need their own, and so does
+        // any game that is snapshotted
         public Builder withDiceService(DiceService diceService) {
             this.diceService = diceService;
             return this;
@@ -99,9 +145,61 @@ public final class Game {
             return this;
         }
         
+        public Builder withChainedResolution(boolean chainResolution) {
+            this.chainResolution = chainResolution;
+            return this;
+        }
+        
+        public Builder withDiceChoice(boolean diceChoice) {
+            this.diceChoice = diceChoice;
+            return this;
+        }
+        
+        // Interns the compiled board in the shared BoardRegistry so games with the same layout share it
+        public Builder withSharedBoard(boolean sharedBoard) {
+            this.sharedBoard = sharedBoard;
+            return this;
+        }
+        
+        public Builder withEventListener(GameEventListener listener) {
+            this.listener = listener;
+            this.listenerSet = true;
+            return this;
+        }
+        
+        public Builder withConsoleOutput(boolean consoleOutput) {
+            this.listener = null;
+            this.listenerSet = !consoleOutput;
+            return this;
+        }
+        
+        public Builder copy() {
+            Builder copy = new Builder();
+            copy.board = board;
+            copy.players = new ArrayList<>(players);
+            copy.diceService = diceService;
+            copy.winStrategy = winStrategy;
+            copy.startStrategy = startStrategy;
+            copy.specialRule = specialRule;
+            copy.collisionStrategy = collisionStrategy;
+            copy.turnContinuationStrategy = turnContinuationStrategy;
+            copy.listener = listener;
+            copy.listenerSet = listenerSet;
+            copy.chainResolution = chainResolution;
+            copy.diceChoice = diceChoice;
+            copy.sharedBoard = sharedBoard;
+            return copy;
+        }
+        
         public Game build() {
             validate();
-            return new Game(this);
+            Game game = new Game(this);
+            if (diceChoice) {
+                for (MoveDecider decider : game.deciders) {
+                    if (decider != null) decider.checkGame(game);
+                }
+            }
+            return game;
         }
         
         private void validate() {
@@ -117,81 +215,259 @@ public final class Game {
     }
     
     public void play() {
-        System.out.println("Starting game with " + players.size() + " players");
-        System.out.println("Board size: " + board.getSize());
-        System.out.println("Start rule: " + startStrategy.getRule());
-        System.out.println();
-        
         while (!gameOver) {
-            playTurn();
+            step();
         }
-        
-        System.out.println("\nGame Over! Winner: " + winner.getName());
     }
     
-    private void playTurn() {
-        Player current = players.get(currentPlayerIndex);
-        
-        if (current.shouldSkipTurn()) {
-            System.out.println(current.getName() + " skips turn");
-            current.setSkipTurn(false);
-            nextPlayer();
-            return;
+    public TurnOutcome step() {
+        if (gameOver) return TurnOutcome.GAME_OVER;
+        if (!announced) {
+            announced = true;
+            if (listener != null) listener.onGameStart(players, board.getSize(), startStrategy.getRule());
         }
+        GameMetrics metrics = GameMetrics.active();
+        TurnOutcome outcome;
+        if (metrics == null) {
+            outcome = playTurn(null, false);
+        } else {
+            int seat = currentPlayerIndex;
+            boolean timed = --timingCountdown <= 0;
+            if (timed) timingCountdown = GameMetrics.getTimingInterval();
+            long start = timed ? System.nanoTime() : 0L;
+            outcome = playTurn(metrics, timed);
+            long elapsed = timed ? System.nanoTime() - start : -1L;
+            metrics.turnCompleted(seat, lastRoll, outcome, state.getPosition(seat), elapsed);
+        }
+        if (gameOver) {
+            if (listener != null) listener.onGameOver(winnerIndex);
+            if (metrics != null) metrics.gameCompleted(turnCount, winnerIndex, snakeHits, ladderHits);
+        }
+        return outcome;
+    }
+    
+    public int playTurns(int turns) {
+        int played = 0;
+        while (!gameOver && played < turns) {
+            step();
+            played++;
+        }
+        return played;
+    }
+    
+    private TurnOutcome playTurn(GameMetrics metrics, boolean timed) {
+        int seat = currentPlayerIndex;
+        turnCount++;
+        lastRoll = 0;
         
-        int roll = diceService.roll();
-        System.out.println(current.getName() + " rolled " + roll);
-        
-        if (!current.hasStarted() && !startStrategy.canStart(roll)) {
-            System.out.println(current.getName() + " cannot start yet");
+        if (state.shouldSkipTurn(seat)) {
+            if (listener != null) listener.onSkip(seat);
+            state.setSkipTurn(seat, false);
             nextPlayer();
-            return;
+            return TurnOutcome.SKIPPED;
         }
         
-        if (!current.hasStarted()) {
-            current.setStarted(true);
-            System.out.println(current.getName() + " starts the game!");
+        int roll = diceChoice ? chooseRoll(seat) : diceService.roll();
+        lastRoll = roll;
+        if (listener != null) listener.onRoll(seat, roll);
+        
+        if (!state.hasStarted(seat)) {
+            long t = now(timed);
+            boolean canStart = rules.canStart(roll);
+            if (timed) metrics.recordSince(Timer.START_STRATEGY, t);
+            if (!canStart) {
+                if (listener != null) listener.onStartBlocked(seat, roll);
+                nextPlayer();
+                return TurnOutcome.START_BLOCKED;
+            }
+            state.setStarted(seat, true);
+            if (listener != null) listener.onStart(seat);
         }
         
         if (roll == 6) {
-            current.incrementSixes();
+            state.incrementSixes(seat);
         } else {
-            current.resetSixes();
+            state.resetSixes(seat);
         }
         
-        if (!specialRule.apply(current, current.getConsecutiveSixes(), roll)) {
+        long t = now(timed);
+        boolean proceed = rules.applySpecialRule(state, players, seat, roll);
+        if (timed) metrics.recordSince(Timer.SPECIAL_RULE, t);
+        if (!proceed) {
+            if (listener != null) listener.onSpecialRule(seat, roll);
             nextPlayer();
-            return;
+            return TurnOutcome.SPECIAL_RULE;
         }
         
-        int oldPos = current.getPosition();
-        int newPos = winStrategy.getNewPosition(oldPos, roll, board.getSize());
-        current.setPosition(newPos);
+        int oldPos = state.getPosition(seat);
+        t = now(timed);
+        int newPos = rules.getNewPosition(oldPos, roll, board.getSize());
+        boolean won = rules.hasWon(oldPos, roll, board.getSize());
+        if (timed) metrics.recordSince(Timer.WIN_STRATEGY, t);
+        state.setPosition(seat, newPos);
         
-        if (winStrategy.hasWon(oldPos, roll, board.getSize())) {
-            winner = current;
+        if (won) {
+            winnerIndex = seat;
             gameOver = true;
-            return;
+            if (listener != null) listener.onWin(seat, oldPos, newPos);
+            return TurnOutcome.WON;
         }
         
-        newPos = board.applyEntity(newPos);
-        current.setPosition(newPos);
+        int landed = newPos;
+        t = now(timed);
+        newPos = board.applyEntity(landed);
+        if (timed) metrics.recordSince(Timer.APPLY_ENTITY, t);
+        state.setPosition(seat, newPos);
+        if (newPos < landed) {
+            snakeHits++;
+            if (metrics != null) metrics.increment(Counter.SNAKE_HITS);
+        } else if (newPos > landed) {
+            ladderHits++;
+            if (metrics != null) metrics.increment(Counter.LADDER_HITS);
+        }
+        if (listener != null && newPos != landed) listener.onEntity(seat, landed, newPos);
         
-        collisionStrategy.handle(current, players, newPos);
+        t = now(timed);
+        if (listener != null || metrics != null) {
+            int collisions = handleTrackedCollision(seat, newPos);
+            if (metrics != null) {
+                if (timed) metrics.recordSince(Timer.COLLISION, t);
+                metrics.add(Counter.COLLISIONS, collisions);
+            }
+        } else {
+            rules.handleCollision(state, players, seat, newPos, occupancy);
+        }
         
-        System.out.println(current.getName() + " moved from " + oldPos + " to " + newPos);
+        if (listener != null) listener.onMove(seat, oldPos, newPos);
         
-        if (!turnContinuationStrategy.shouldContinueTurn(roll)) {
-            nextPlayer();
+        t = now(timed);
+        boolean again = rules.shouldContinueTurn(roll);
+        if (timed) metrics.recordSince(Timer.TURN_CONTINUATION, t);
+        if (again) {
+            return TurnOutcome.EXTRA_TURN;
         }
+        nextPlayer();
+        return TurnOutcome.MOVED;
+    }
+    
+    private int chooseRoll(int seat) {
+        int count = diceService.getDiceCount();
+        diceService.rollIndividual(diceBuffer);
+        if (deciders[seat] != null) {
+            return deciders[seat].chooseMove(state.getPosition(seat), state.hasStarted(seat),
+                state.getConsecutiveSixes(seat), diceBuffer, count);
+        }
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += diceBuffer[i];
+        }
+        return sum;
+    }
+    
+    private int handleTrackedCollision(int seat, int position) {
+        int candidates = 0;
+        for (int other = occupancy.first(position); other != -1; other = occupancy.next(other)) {
+            if (other != seat) collisionCandidates[candidates++] = other;
+        }
+        rules.handleCollision(state, players, seat, position, occupancy);
+        int collisions = 0;
+        for (int i = 0; i < candidates; i++) {
+            if (state.getPosition(collisionCandidates[i]) != position) {
+                collisions++;
+                if (listener != null) listener.onCollision(seat, collisionCandidates[i], position);
+            }
+        }
+        return collisions;
+    }
+    
+    private static long now(boolean timed) {
+        return timed ? System.nanoTime() : 0L;
     }
     
     private void nextPlayer() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        currentPlayerIndex = (currentPlayerIndex + 1) % state.size();
+    }
+    
+    public void reset() {
+        state.restoreInitialState();
+        currentPlayerIndex = 0;
+        winnerIndex = -1;
+        gameOver = false;
+        announced = false;
+        turnCount = 0;
+        snakeHits = 0;
+        ladderHits = 0;
+        lastRoll = 0;
+    }
+    
+    public GameSnapshot snapshot() {
+        checkDiceOwned();
+        if (!diceService.isReplayable()) {
+            throw new IllegalStateException("Snapshots need a seeded DiceService that only this game rolls");
+        }
+        int seats = state.size();
+        int[] positions = new int[seats];
+        boolean[] started = new boolean[seats];
+        int[] sixes = new int[seats];
+        boolean[] skip = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            positions[seat] = state.getPosition(seat);
+            started[seat] = state.hasStarted(seat);
+            sixes[seat] = state.getConsecutiveSixes(seat);
+            skip[seat] = state.shouldSkipTurn(seat);
+        }
+        return new GameSnapshot(board.contentHash(), currentPlayerIndex, winnerIndex, gameOver, announced, turnCount,
+            snakeHits, ladderHits, positions, started, sixes, skip,
+            diceService.getSeed(), diceService.getRollsSinceSeed(), diceService.isRollingIndividually());
+    }
+    
+    public void restore(GameSnapshot snapshot) {
+        if (snapshot.getSeatCount() != state.size() || snapshot.getBoardHash() != board.contentHash()) {
+            throw new IllegalArgumentException("Snapshot was taken from a game with a different board or seats");
+        }
+        checkDiceOwned();
+        state.restoreInitialState();
+        for (int seat = 0; seat < state.size(); seat++) {
+            state.setPosition(seat, snapshot.getPosition(seat));
+            state.setStarted(seat, snapshot.hasStarted(seat));
+            state.setConsecutiveSixes(seat, snapshot.getConsecutiveSixes(seat));
+            state.setSkipTurn(seat, snapshot.shouldSkipTurn(seat));
+        }
+        currentPlayerIndex = snapshot.getCurrentPlayerIndex();
+        winnerIndex = snapshot.getWinnerIndex();
+        gameOver = snapshot.isGameOver();
+        announced = snapshot.isAnnounced();
+        turnCount = snapshot.getTurnCount();
+        snakeHits = snapshot.getSnakeHits();
+        ladderHits = snapshot.getLadderHits();
+        lastRoll = 0;
+        diceService.restore(snapshot.getDiceSeed(), snapshot.getDiceRolls(), snapshot.isDiceIndividual());
+    }
+    
+    // A roll count on shared dice includes the other games' rolls, so it cannot be replayed for this one
+    private void checkDiceOwned() {
+        if (diceService.isShared()) {
+            throw new IllegalStateException("DiceService is shared with another game built from the same builder");
+        }
     }
     
-    public Player getWinner() { return winner != null ? winner.copy() : null; }
+    public Player getWinner() { return winnerIndex >= 0 ? state.detach(winnerIndex) : null; }
+    public int getWinnerIndex() { return winnerIndex; }
+    public int getTurnCount() { return turnCount; }
+    public int getSnakeHits() { return snakeHits; }
+    public int getLadderHits() { return ladderHits; }
     public boolean isGameOver() { return gameOver; }
-    public List<Player> getPlayers() { return deepCopyPlayers(players); }
-    public Board getBoard() { return board.copy(); }
+    public boolean isDiceChoice() { return diceChoice; }
+    public int getCurrentPlayerIndex() { return currentPlayerIndex; }
+    public int getPlayerCount() { return state.size(); }
+    public int getPlayerPosition(int seat) { return state.getPosition(seat); }
+    public String getPlayerName(int seat) { return state.getName(seat); }
+    public DiceService getDiceService() { return diceService; }
+    public WinningStrategy getWinningStrategy() { return winStrategy; }
+    public GameStartStrategy getStartStrategy() { return startStrategy; }
+    public SpecialRuleStrategy getSpecialRule() { return specialRule; }
+    public CollisionStrategy getCollisionStrategy() { return collisionStrategy; }
+    public TurnContinuationStrategy getTurnContinuationStrategy() { return turnContinuationStrategy; }
+    public List<Player> getPlayers() { return deepCopyPlayers(); }
+    public Board getBoard() { return board; }
 }
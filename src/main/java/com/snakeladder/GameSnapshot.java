@@ -0,0 +1,128 @@
+package com.snakeladder;
+
+import java.io.*;
+
+// Everything that changes while a game is played, including where its dice generator stands.
+// Configuration (board, players, strategies) is not stored; a snapshot is restored into a game
+// built from the same builder, checked by board layout hash and seat count.
+public final class GameSnapshot {
+    private static final int MAGIC = 0x534C4753;
+    private static final byte VERSION = 1;
+    
+    private final long boardHash;
+    private final int currentPlayerIndex;
+    private final int winnerIndex;
+    private final boolean gameOver;
+    private final boolean announced;
+    private final int turnCount;
+    private final int snakeHits;
+    private final int ladderHits;
+    private final int[] positions;
+    private final boolean[] started;
+    private final int[] consecutiveSixes;
+    private final boolean[] skipTurn;
+    private final long diceSeed;
+    private final long diceRolls;
+    private final boolean diceIndividual;
+    
+    GameSnapshot(long boardHash, int currentPlayerIndex, int winnerIndex, boolean gameOver, boolean announced,
+                 int turnCount, int snakeHits, int ladderHits, int[] positions, boolean[] started,
+                 int[] consecutiveSixes, boolean[] skipTurn, long diceSeed, long diceRolls, boolean diceIndividual) {
+        this.boardHash = boardHash;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.winnerIndex = winnerIndex;
+        this.gameOver = gameOver;
+        this.announced = announced;
+        this.turnCount = turnCount;
+        this.snakeHits = snakeHits;
+        this.ladderHits = ladderHits;
+        this.positions = positions;
+        this.started = started;
+        this.consecutiveSixes = consecutiveSixes;
+        this.skipTurn = skipTurn;
+        this.diceSeed = diceSeed;
+        this.diceRolls = diceRolls;
+        this.diceIndividual = diceIndividual;
+    }
+    
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(boardHash);
+        out.writeShort(positions.length);
+        out.writeShort(currentPlayerIndex);
+        out.writeShort(winnerIndex);
+        out.writeByte((gameOver ? 1 : 0) | (announced ? 2 : 0) | (diceIndividual ? 4 : 0));
+        out.writeInt(turnCount);
+        out.writeInt(snakeHits);
+        out.writeInt(ladderHits);
+        for (int seat = 0; seat < positions.length; seat++) {
+            out.writeInt(positions[seat]);
+            out.writeByte((started[seat] ? 1 : 0) | (skipTurn[seat] ? 2 : 0));
+            out.writeByte(consecutiveSixes[seat]);
+        }
+        out.writeLong(diceSeed);
+        out.writeLong(diceRolls);
+    }
+    
+    public static GameSnapshot readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("Not a game snapshot");
+        byte version = in.readByte();
+        if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+        long boardHash = in.readLong();
+        int seats = in.readShort();
+        int current = in.readShort();
+        int winner = in.readShort();
+        int flags = in.readByte();
+        int turns = in.readInt();
+        int snakes = in.readInt();
+        int ladders = in.readInt();
+        int[] positions = new int[seats];
+        boolean[] started = new boolean[seats];
+        int[] sixes = new int[seats];
+        boolean[] skip = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            positions[seat] = in.readInt();
+            int seatFlags = in.readByte();
+            started[seat] = (seatFlags & 1) != 0;
+            skip[seat] = (seatFlags & 2) != 0;
+            sixes[seat] = in.readByte();
+        }
+        long diceSeed = in.readLong();
+        long diceRolls = in.readLong();
+        return new GameSnapshot(boardHash, current, winner, (flags & 1) != 0, (flags & 2) != 0, turns, snakes, ladders,
+            positions, started, sixes, skip, diceSeed, diceRolls, (flags & 4) != 0);
+    }
+    
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + positions.length * 6);
+        try {
+            writeTo(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    public static GameSnapshot fromBytes(byte[] bytes) throws IOException {
+        return readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+    
+    long getBoardHash() { return boardHash; }
+    int getSeatCount() { return positions.length; }
+    int getCurrentPlayerIndex() { return currentPlayerIndex; }
+    int getWinnerIndex() { return winnerIndex; }
+    boolean isGameOver() { return gameOver; }
+    boolean isAnnounced() { return announced; }
+    int getSnakeHits() { return snakeHits; }
+    int getLadderHits() { return ladderHits; }
+    int getPosition(int seat) { return positions[seat]; }
+    boolean hasStarted(int seat) { return started[seat]; }
+    int getConsecutiveSixes(int seat) { return consecutiveSixes[seat]; }
+    boolean shouldSkipTurn(int seat) { return skipTurn[seat]; }
+    long getDiceSeed() { return diceSeed; }
+    long getDiceRolls() { return diceRolls; }
+    boolean isDiceIndividual() { return diceIndividual; }
+    
+    public int getTurnCount() { return turnCount; }
+}
@@ -0,0 +1,11 @@
+package com.snakeladder;
+
+public enum TurnOutcome {
+    SKIPPED,
+    START_BLOCKED,
+    SPECIAL_RULE,
+    MOVED,
+    EXTRA_TURN,
+    WON,
+    GAME_OVER
+}
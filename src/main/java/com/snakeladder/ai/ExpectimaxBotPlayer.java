@@ -0,0 +1,42 @@
+package com.snakeladder.ai;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.MoveDecider;
+import com.snakeladder.interfaces.Player;
+import com.snakeladder.models.BotPlayer;
+
+public class ExpectimaxBotPlayer extends BotPlayer implements MoveDecider {
+    private final ExpectimaxPolicy policy;
+    
+    public ExpectimaxBotPlayer(String name, ExpectimaxPolicy policy) {
+        super(name);
+        if (policy == null) throw new IllegalArgumentException("Policy is required");
+        this.policy = policy;
+    }
+    
+    public int chooseMove(int position, boolean started, int consecutiveSixes, int[] dice, int diceCount) {
+        if (diceCount != policy.getDiceCount()) {
+            throw new IllegalStateException("Policy was solved for " + policy.getDiceCount() + " dice, not " + diceCount);
+        }
+        return policy.chooseMove(position, started, consecutiveSixes, dice);
+    }
+    
+    public void checkGame(Game game) {
+        if (!policy.isSolvedFor(game)) {
+            throw new IllegalArgumentException("Policy for " + name + " was solved for a different board, dice count or rules");
+        }
+    }
+    
+    public ExpectimaxPolicy getPolicy() { return policy; }
+    
+    public String getType() { return "Expectimax Bot"; }
+    
+    public Player copy() {
+        ExpectimaxBotPlayer copy = new ExpectimaxBotPlayer(this.name, this.policy);
+        copy.position = this.position;
+        copy.started = this.started;
+        copy.consecutiveSixes = this.consecutiveSixes;
+        copy.skipTurn = this.skipTurn;
+        return copy;
+    }
+}
@@ -0,0 +1,309 @@
+package com.snakeladder.ai;
+
+import com.snakeladder.Game;
+import com.snakeladder.factories.BoardRegistry;
+import com.snakeladder.interfaces.*;
+import com.snakeladder.models.Board;
+import com.snakeladder.models.BotPlayer;
+import com.snakeladder.models.Dice;
+import java.util.*;
+
+// Models the winning, start, special and turn-continuation rules for a single player;
+// collisions with opponents are not modelled, and strategies must be stateless
+public final class ExpectimaxPolicy {
+    private static final int MAX_DICE = 6;
+    private static final int SIXES_TRACKED = 4;
+    private static final int WIN = -1;
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_ITERATIONS = 100_000;
+    private static final int CACHE_CAPACITY = 64;
+    private static final Map<Key, ExpectimaxPolicy> cache = new LinkedHashMap<Key, ExpectimaxPolicy>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<Key, ExpectimaxPolicy> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+    
+    private final Board board;
+    private final int diceCount;
+    private final WinningStrategy winStrategy;
+    private final GameStartStrategy startStrategy;
+    private final SpecialRuleStrategy specialRule;
+    private final TurnContinuationStrategy continuation;
+    private final int maxMove;
+    private final int multisets;
+    private final int[] tupleToMultiset;
+    private final double[] multisetProbability;
+    private final int[][] multisetChoices;
+    private final double[] values;
+    private final int[] bestMove;
+    
+    private final int[] nextState;
+    private final byte[] moveCost;
+    
+    private ExpectimaxPolicy(Board board, int diceCount, WinningStrategy winStrategy, GameStartStrategy startStrategy,
+                             SpecialRuleStrategy specialRule, TurnContinuationStrategy continuation) {
+        this.board = board;
+        this.diceCount = diceCount;
+        this.winStrategy = winStrategy;
+        this.startStrategy = startStrategy;
+        this.specialRule = specialRule;
+        this.continuation = continuation;
+        this.maxMove = diceCount * Dice.FACES;
+        
+        int tuples = 1;
+        for (int i = 0; i < diceCount; i++) tuples *= Dice.FACES;
+        this.tupleToMultiset = new int[tuples];
+        Map<String, Integer> ranks = new HashMap<>();
+        List<int[]> choices = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        int[] dice = new int[diceCount];
+        for (int tuple = 0; tuple < tuples; tuple++) {
+            int rest = tuple;
+            for (int i = 0; i < diceCount; i++) {
+                dice[i] = rest % Dice.FACES + 1;
+                rest /= Dice.FACES;
+            }
+            int[] sorted = dice.clone();
+            Arrays.sort(sorted);
+            String signature = Arrays.toString(sorted);
+            Integer rank = ranks.get(signature);
+            if (rank == null) {
+                rank = choices.size();
+                ranks.put(signature, rank);
+                choices.add(choicesFor(sorted));
+                counts.add(0);
+            }
+            counts.set(rank, counts.get(rank) + 1);
+            tupleToMultiset[tuple] = rank;
+        }
+        this.multisets = choices.size();
+        this.multisetChoices = choices.toArray(new int[0][]);
+        this.multisetProbability = new double[multisets];
+        for (int m = 0; m < multisets; m++) {
+            multisetProbability[m] = (double) counts.get(m) / tuples;
+        }
+        
+        int states = (board.getSize() + 1) * SIXES_TRACKED * 2;
+        this.nextState = new int[states * maxMove];
+        this.moveCost = new byte[states * maxMove];
+        buildTransitions();
+        this.values = new double[states];
+        this.bestMove = new int[states * multisets];
+        solve();
+    }
+    
+    public static ExpectimaxPolicy forBoard(Board board, int diceCount, WinningStrategy winStrategy,
+                                            GameStartStrategy startStrategy, SpecialRuleStrategy specialRule,
+                                            TurnContinuationStrategy continuation) {
+        if (diceCount <= 0 || diceCount > MAX_DICE) {
+            throw new IllegalArgumentException("Dice count must be between 1 and " + MAX_DICE);
+        }
+        if (winStrategy == null || startStrategy == null || specialRule == null || continuation == null) {
+            throw new IllegalArgumentException("Winning, start, special and continuation strategies are required");
+        }
+        Board shared = BoardRegistry.shared().intern(board);
+        Key key = new Key(shared, diceCount, winStrategy.getClass(), startStrategy.getClass(),
+            specialRule.getClass(), continuation.getClass());
+        synchronized (cache) {
+            ExpectimaxPolicy policy = cache.get(key);
+            if (policy != null) return policy;
+        }
+        // Solved outside the lock; a racing solve of the same key yields an identical policy
+        ExpectimaxPolicy policy = new ExpectimaxPolicy(shared, diceCount, winStrategy, startStrategy,
+            specialRule, continuation);
+        synchronized (cache) {
+            ExpectimaxPolicy raced = cache.putIfAbsent(key, policy);
+            return raced != null ? raced : policy;
+        }
+    }
+    
+    public static ExpectimaxPolicy forGame(Game game) {
+        return forBoard(game.getBoard(), game.getDiceService().getDiceCount(), game.getWinningStrategy(),
+            game.getStartStrategy(), game.getSpecialRule(), game.getTurnContinuationStrategy());
+    }
+    
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+    
+    // A player may move by the total of the dice or by any single die
+    private static int[] choicesFor(int[] sortedDice) {
+        int sum = 0;
+        List<Integer> options = new ArrayList<>();
+        for (int i = 0; i < sortedDice.length; i++) {
+            sum += sortedDice[i];
+            if (i == 0 || sortedDice[i] != sortedDice[i - 1]) options.add(sortedDice[i]);
+        }
+        if (sortedDice.length > 1) options.add(sum);
+        int[] result = new int[options.size()];
+        for (int i = 0; i < result.length; i++) result[i] = options.get(i);
+        return result;
+    }
+    
+    private static int stateIndex(int position, int sixes, boolean started) {
+        return (position * SIXES_TRACKED + Math.min(sixes, SIXES_TRACKED - 1)) * 2 + (started ? 1 : 0);
+    }
+    
+    // Follows Game.playTurn for every state and move; costs count rounds, so a move that earns
+    // an extra turn is free and a skipped turn costs one more round
+    private void buildTransitions() {
+        int size = board.getSize();
+        BotPlayer probe = new BotPlayer("probe");
+        for (int position = 0; position <= size; position++) {
+            for (int sixes = 0; sixes < SIXES_TRACKED; sixes++) {
+                for (int s = 0; s < 2; s++) {
+                    boolean started = s == 1;
+                    int base = stateIndex(position, sixes, started) * maxMove;
+                    for (int move = 1; move <= maxMove; move++) {
+                        int slot = base + move - 1;
+                        if (!started && !startStrategy.canStart(move)) {
+                            nextState[slot] = stateIndex(position, sixes, false);
+                            moveCost[slot] = 1;
+                            continue;
+                        }
+                        int nextSixes = move == 6 ? sixes + 1 : 0;
+                        probe.reset();
+                        probe.setPosition(position);
+                        probe.setStarted(true);
+                        probe.setConsecutiveSixes(nextSixes);
+                        if (!specialRule.apply(probe, nextSixes, move)) {
+                            nextState[slot] = stateIndex(checkPosition(probe.getPosition()),
+                                probe.getConsecutiveSixes(), probe.hasStarted());
+                            moveCost[slot] = (byte) (probe.shouldSkipTurn() ? 2 : 1);
+                            continue;
+                        }
+                        if (winStrategy.hasWon(position, move, size)) {
+                            nextState[slot] = WIN;
+                            moveCost[slot] = 1;
+                            continue;
+                        }
+                        int landed = board.applyEntity(winStrategy.getNewPosition(position, move, size));
+                        nextState[slot] = stateIndex(checkPosition(landed), nextSixes, true);
+                        moveCost[slot] = (byte) (continuation.shouldContinueTurn(move) ? 0 : 1);
+                    }
+                }
+            }
+        }
+    }
+    
+    private int checkPosition(int position) {
+        if (position < 0 || position > board.getSize()) {
+            throw new IllegalStateException("Rules moved the player off the board to " + position);
+        }
+        return position;
+    }
+    
+    // Gauss-Seidel value iteration on expected remaining rounds, minimised over each roll's choices;
+    // the final square is terminal and keeps a value of zero
+    private void solve() {
+        int size = board.getSize();
+        int limit = stateIndex(size, 0, false);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double maxDelta = 0.0;
+            for (int state = limit - 1; state >= 0; state--) {
+                double expected = 0.0;
+                for (int m = 0; m < multisets; m++) {
+                    expected += multisetProbability[m] * bestCost(state, m);
+                }
+                maxDelta = Math.max(maxDelta, Math.abs(expected - values[state]));
+                values[state] = expected;
+            }
+            if (maxDelta < EPSILON) break;
+        }
+        for (int state = 0; state < values.length; state++) {
+            for (int m = 0; m < multisets; m++) {
+                int best = multisetChoices[m][0];
+                double bestCost = Double.POSITIVE_INFINITY;
+                for (int move : multisetChoices[m]) {
+                    double cost = cost(state, move);
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        best = move;
+                    }
+                }
+                bestMove[state * multisets + m] = best;
+            }
+        }
+    }
+    
+    private double bestCost(int state, int multiset) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int move : multisetChoices[multiset]) {
+            best = Math.min(best, cost(state, move));
+        }
+        return best;
+    }
+    
+    private double cost(int state, int move) {
+        int slot = state * maxMove + move - 1;
+        int next = nextState[slot];
+        return next == WIN ? moveCost[slot] : moveCost[slot] + values[next];
+    }
+    
+    public int chooseMove(int position, boolean started, int consecutiveSixes, int[] dice) {
+        int tuple = 0;
+        for (int i = diceCount - 1; i >= 0; i--) {
+            tuple = tuple * Dice.FACES + dice[i] - 1;
+        }
+        if (position < 0 || position > board.getSize()) {
+            int sum = 0;
+            for (int i = 0; i < diceCount; i++) sum += dice[i];
+            return sum;
+        }
+        return bestMove[stateIndex(position, consecutiveSixes, started) * multisets + tupleToMultiset[tuple]];
+    }
+    
+    // Expected rounds to finish for a started player with no sixes in a row
+    public double getExpectedTurns(int position) {
+        return getExpectedTurns(position, true, 0);
+    }
+    
+    public double getExpectedTurns(int position, boolean started, int consecutiveSixes) {
+        return values[stateIndex(position, consecutiveSixes, started)];
+    }
+    
+    public boolean isSolvedFor(Game game) {
+        return game.getDiceService().getDiceCount() == diceCount
+            && board.hasSameLayout(game.getBoard())
+            && game.getWinningStrategy().getClass() == winStrategy.getClass()
+            && game.getStartStrategy().getClass() == startStrategy.getClass()
+            && game.getSpecialRule().getClass() == specialRule.getClass()
+            && game.getTurnContinuationStrategy().getClass() == continuation.getClass();
+    }
+    
+    public int getDiceCount() { return diceCount; }
+    public Board getBoard() { return board; }
+    
+    private static final class Key {
+        final Board board;
+        final int diceCount;
+        final Class<?> winStrategy;
+        final Class<?> startStrategy;
+        final Class<?> specialRule;
+        final Class<?> continuation;
+        
+        Key(Board board, int diceCount, Class<?> winStrategy, Class<?> startStrategy,
+            Class<?> specialRule, Class<?> continuation) {
+            this.board = board;
+            this.diceCount = diceCount;
+            this.winStrategy = winStrategy;
+            this.startStrategy = startStrategy;
+            this.specialRule = specialRule;
+            this.continuation = continuation;
+        }
+        
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return diceCount == other.diceCount && winStrategy == other.winStrategy
+                && startStrategy == other.startStrategy && specialRule == other.specialRule
+                && continuation == other.continuation && board.hasSameLayout(other.board);
+        }
+        
+        public int hashCode() {
+            return Objects.hash(board.contentHash(), diceCount, winStrategy, startStrategy, specialRule, continuation);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.snakeladder.analysis;
+
+import java.util.Arrays;
+
+// When some games never finish, or the turn horizon cut the distribution short, the moments and win
+// probabilities are not defined: expected turns and variance are infinite and win probabilities NaN.
+public class MarkovResult {
+    private final double[] finishDistribution;
+    private final double unresolvedMass;
+    private final boolean complete;
+    private final double expectedTurns;
+    private final double variance;
+    
+    MarkovResult(double[] finishDistribution, double unresolvedMass, boolean complete) {
+        this.finishDistribution = finishDistribution;
+        this.unresolvedMass = unresolvedMass;
+        this.complete = complete;
+        double mean = 0.0;
+        double secondMoment = 0.0;
+        for (int t = 1; t < finishDistribution.length; t++) {
+            mean += t * finishDistribution[t];
+            secondMoment += (double) t * t * finishDistribution[t];
+        }
+        this.expectedTurns = complete ? mean : Double.POSITIVE_INFINITY;
+        this.variance = complete ? secondMoment - mean * mean : Double.POSITIVE_INFINITY;
+    }
+    
+    public double getExpectedTurns() { return expectedTurns; }
+    public double getVariance() { return variance; }
+    public double getStandardDeviation() { return Math.sqrt(variance); }
+    public double getUnresolvedMass() { return unresolvedMass; }
+    public boolean isComplete() { return complete; }
+    public int getMaxTurns() { return finishDistribution.length - 1; }
+    
+    public double[] getTurnDistribution() {
+        return finishDistribution.clone();
+    }
+    
+    public double getFinishProbability(int turns) {
+        return turns > 0 && turns < finishDistribution.length ? finishDistribution[turns] : 0.0;
+    }
+    
+    public double getProbabilityFinishedBy(int turns) {
+        double sum = 0.0;
+        for (int t = 1; t <= Math.min(turns, finishDistribution.length - 1); t++) {
+            sum += finishDistribution[t];
+        }
+        return sum;
+    }
+    
+    // Seats take one turn each per round, so seat i wins in round t if it finishes at t,
+    // the seats before it have not finished by t and the seats after it not by t - 1.
+    public double[] getWinProbabilities(int players) {
+        if (players <= 0) throw new IllegalArgumentException("At least one player is required");
+        double[] wins = new double[players];
+        if (!complete) {
+            Arrays.fill(wins, Double.NaN);
+            return wins;
+        }
+        double survivalBefore = 1.0;
+        for (int t = 1; t < finishDistribution.length; t++) {
+            double survivalAt = survivalBefore - finishDistribution[t];
+            for (int seat = 0; seat < players; seat++) {
+                wins[seat] += finishDistribution[t]
+                    * Math.pow(survivalAt, seat)
+                    * Math.pow(survivalBefore, players - 1 - seat);
+            }
+            survivalBefore = survivalAt;
+        }
+        return wins;
+    }
+    
+    public double getFirstMoverAdvantage(int players) {
+        double[] wins = getWinProbabilities(players);
+        return wins[0] - 1.0 / players;
+    }
+    
+    public String toString() {
+        if (!complete) {
+            return String.format("MarkovResult[incomplete, unresolved mass %.4f, %d turn horizon]",
+                unresolvedMass, finishDistribution.length - 1);
+        }
+        return String.format("MarkovResult[expected %.4f turns, variance %.4f, %d turn horizon]",
+            expectedTurns, variance, finishDistribution.length - 1);
+    }
+}
@@ -0,0 +1,220 @@
+package com.snakeladder.analysis;
+
+import com.snakeladder.interfaces.GameStartStrategy;
+import com.snakeladder.interfaces.WinningStrategy;
+import com.snakeladder.models.Board;
+import com.snakeladder.services.DiceSampler;
+import com.snakeladder.strategies.NormalStartStrategy;
+import java.util.Arrays;
+
+public class MarkovSolver {
+    private static final double DEFAULT_EPSILON = 1e-12;
+    private static final int DEFAULT_MAX_TURNS = 1_000_000;
+    
+    private final Board board;
+    private final int diceCount;
+    private final WinningStrategy winStrategy;
+    private final GameStartStrategy startStrategy;
+    private double epsilon = DEFAULT_EPSILON;
+    private int maxTurns = DEFAULT_MAX_TURNS;
+    
+    public MarkovSolver(Board board, int diceCount, WinningStrategy winStrategy) {
+        this(board, diceCount, winStrategy, new NormalStartStrategy());
+    }
+    
+    public MarkovSolver(Board board, int diceCount, WinningStrategy winStrategy, GameStartStrategy startStrategy) {
+        if (board == null) throw new IllegalArgumentException("Board is required");
+        if (diceCount <= 0 || diceCount > DiceSampler.MAX_DICE) {
+            throw new IllegalArgumentException("Dice count must be between 1 and " + DiceSampler.MAX_DICE);
+        }
+        if (winStrategy == null) throw new IllegalArgumentException("WinningStrategy is required");
+        if (startStrategy == null) throw new IllegalArgumentException("GameStartStrategy is required");
+        this.board = board.compile();
+        this.diceCount = diceCount;
+        this.winStrategy = winStrategy;
+        this.startStrategy = startStrategy;
+    }
+    
+    public MarkovSolver withEpsilon(double epsilon) {
+        this.epsilon = epsilon;
+        return this;
+    }
+    
+    public MarkovSolver withMaxTurns(int maxTurns) {
+        this.maxTurns = maxTurns;
+        return this;
+    }
+    
+    public static double[] sumDistribution(int diceCount) {
+        DiceSampler sampler = DiceSampler.forDice(diceCount);
+        double[] dist = new double[sampler.getMaxSum() + 1];
+        for (int sum = sampler.getMinSum(); sum <= sampler.getMaxSum(); sum++) {
+            dist[sum] = sampler.probability(sum);
+        }
+        return dist;
+    }
+    
+    public MarkovResult solve() {
+        SparseChain chain = buildChain();
+        double[] current = new double[chain.states];
+        double[] next = new double[chain.states];
+        current[chain.initialState] = 1.0;
+        
+        // Mass that enters a state from which the token can never finish is set aside rather than iterated,
+        // so a chain that is not absorbing stops as soon as the rest has finished
+        double[] finish = new double[64];
+        double remaining = 1.0;
+        double trapped = chain.canFinish[chain.initialState] ? 0.0 : 1.0;
+        if (trapped > 0.0) {
+            current[chain.initialState] = 0.0;
+            remaining = 0.0;
+        }
+        int turn = 0;
+        while (remaining > epsilon && turn < maxTurns) {
+            turn++;
+            Arrays.fill(next, 0.0);
+            double finished = 0.0;
+            double stuck = 0.0;
+            for (int s = 0; s < chain.states; s++) {
+                double mass = current[s];
+                if (mass == 0.0) continue;
+                finished += mass * chain.absorb[s];
+                for (int k = chain.rowStart[s]; k < chain.rowStart[s + 1]; k++) {
+                    int dest = chain.cols[k];
+                    if (chain.canFinish[dest]) {
+                        next[dest] += mass * chain.probs[k];
+                    } else {
+                        stuck += mass * chain.probs[k];
+                    }
+                }
+            }
+            if (turn >= finish.length) {
+                finish = Arrays.copyOf(finish, finish.length * 2);
+            }
+            finish[turn] = finished;
+            remaining -= finished + stuck;
+            trapped += stuck;
+            double[] swap = current;
+            current = next;
+            next = swap;
+        }
+        double unresolved = Math.max(remaining, 0.0) + trapped;
+        return new MarkovResult(Arrays.copyOf(finish, turn + 1), unresolved, trapped == 0.0 && unresolved <= epsilon);
+    }
+    
+    // Marks every state from which an absorbing state can be reached, walking the transitions backwards
+    private static boolean[] canFinish(int states, int[] rowStart, int[] cols, double[] absorb) {
+        int[] inDegree = new int[states + 1];
+        for (int k = 0; k < rowStart[states]; k++) {
+            inDegree[cols[k] + 1]++;
+        }
+        for (int s = 0; s < states; s++) {
+            inDegree[s + 1] += inDegree[s];
+        }
+        int[] sources = new int[rowStart[states]];
+        int[] fill = Arrays.copyOf(inDegree, states);
+        for (int s = 0; s < states; s++) {
+            for (int k = rowStart[s]; k < rowStart[s + 1]; k++) {
+                sources[fill[cols[k]]++] = s;
+            }
+        }
+        boolean[] reached = new boolean[states];
+        int[] queue = new int[states];
+        int head = 0, tail = 0;
+        for (int s = 0; s < states; s++) {
+            if (absorb[s] > 0.0) {
+                reached[s] = true;
+                queue[tail++] = s;
+            }
+        }
+        while (head < tail) {
+            int s = queue[head++];
+            for (int k = inDegree[s]; k < inDegree[s + 1]; k++) {
+                int source = sources[k];
+                if (!reached[source]) {
+                    reached[source] = true;
+                    queue[tail++] = source;
+                }
+            }
+        }
+        return reached;
+    }
+    
+    private SparseChain buildChain() {
+        int size = board.getSize();
+        double[] rolls = sumDistribution(diceCount);
+        boolean gated = false;
+        for (int roll = diceCount; roll < rolls.length; roll++) {
+            if (!startStrategy.canStart(roll)) {
+                gated = true;
+                break;
+            }
+        }
+        
+        // States 0..size are started positions; an extra state holds a token still waiting to start
+        int states = size + 1 + (gated ? 1 : 0);
+        int waiting = size + 1;
+        int[] rowStart = new int[states + 1];
+        int[] cols = new int[states * (rolls.length - diceCount + 1)];
+        double[] probs = new double[cols.length];
+        double[] absorb = new double[states];
+        double[] row = new double[states];
+        int[] touched = new int[rolls.length];
+        int nnz = 0;
+        
+        for (int s = 0; s < states; s++) {
+            rowStart[s] = nnz;
+            boolean waitingState = gated && s == waiting;
+            int position = waitingState ? 0 : s;
+            int touchedCount = 0;
+            for (int roll = diceCount; roll < rolls.length; roll++) {
+                double p = rolls[roll];
+                if (p == 0.0) continue;
+                int dest;
+                if (waitingState && !startStrategy.canStart(roll)) {
+                    dest = waiting;
+                } else if (winStrategy.hasWon(position, roll, size)) {
+                    absorb[s] += p;
+                    continue;
+                } else {
+                    dest = board.applyEntity(winStrategy.getNewPosition(position, roll, size));
+                }
+                if (row[dest] == 0.0) {
+                    touched[touchedCount++] = dest;
+                }
+                row[dest] += p;
+            }
+            for (int i = 0; i < touchedCount; i++) {
+                int dest = touched[i];
+                cols[nnz] = dest;
+                probs[nnz] = row[dest];
+                nnz++;
+                row[dest] = 0.0;
+            }
+        }
+        rowStart[states] = nnz;
+        return new SparseChain(states, gated ? waiting : 0, rowStart, cols, probs, absorb,
+            canFinish(states, rowStart, cols, absorb));
+    }
+    
+    private static class SparseChain {
+        final int states;
+        final int initialState;
+        final int[] rowStart;
+        final int[] cols;
+        final double[] probs;
+        final double[] absorb;
+        final boolean[] canFinish;
+        
+        SparseChain(int states, int initialState, int[] rowStart, int[] cols, double[] probs, double[] absorb,
+                    boolean[] canFinish) {
+            this.states = states;
+            this.initialState = initialState;
+            this.rowStart = rowStart;
+            this.cols = cols;
+            this.probs = probs;
+            this.absorb = absorb;
+            this.canFinish = canFinish;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.snakeladder.factories;
+
+import com.snakeladder.interfaces.BoardEntity;
+import com.snakeladder.models.Board;
+import java.io.*;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+// Read-only catalogue of board layouts. Opening maps the file and checks only the header and index, so it
+// costs the same for ten boards or fifty thousand; each board is verified and decoded on first use and then
+// shared by every caller.
+public class BoardCatalog implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final int boardCount;
+    private final long indexOffset;
+    private final AtomicReferenceArray<Board> boards;
+    
+    private BoardCatalog(FileChannel channel, MappedByteBuffer mapped) throws IOException {
+        this.channel = channel;
+        this.mapped = mapped;
+        if (mapped.getInt(0) != BoardCatalogFile.MAGIC) throw new IOException("Not a board catalogue");
+        byte version = mapped.get(4);
+        if (version != BoardCatalogFile.VERSION) throw new IOException("Unsupported board catalogue version " + version);
+        this.boardCount = mapped.getInt(BoardCatalogFile.COUNT_OFFSET);
+        this.indexOffset = mapped.getLong(BoardCatalogFile.INDEX_OFFSET);
+        if (boardCount < 0 || indexOffset < BoardCatalogFile.HEADER_BYTES
+                || indexOffset + (long) boardCount * Long.BYTES > mapped.capacity()) {
+            throw new IOException("Truncated board catalogue");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(mapped.slice((int) indexOffset, boardCount * Long.BYTES));
+        if ((int) crc.getValue() != mapped.getInt(BoardCatalogFile.INDEX_CRC_OFFSET)) {
+            throw new IOException("Board catalogue index is corrupt");
+        }
+        this.boards = new AtomicReferenceArray<>(boardCount);
+    }
+    
+    public static BoardCatalog open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < BoardCatalogFile.HEADER_BYTES) throw new IOException("Truncated board catalogue: " + path);
+            if (size > Integer.MAX_VALUE) throw new IOException("Board catalogues are limited to 2 GB: " + path);
+            return new BoardCatalog(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    public int size() {
+        return boardCount;
+    }
+    
+    public Board get(int index) {
+        if (index < 0 || index >= boardCount) throw new IndexOutOfBoundsException("Board " + index + " of " + boardCount);
+        Board board = boards.get(index);
+        if (board != null) return board;
+        board = decode(index);
+        return boards.compareAndSet(index, null, board) ? board : boards.get(index);
+    }
+    
+    private Board decode(int index) {
+        long offset = mapped.getLong((int) indexOffset + index * Long.BYTES);
+        if (offset < BoardCatalogFile.HEADER_BYTES || offset + BoardCatalogFile.RECORD_HEADER_BYTES > indexOffset) {
+            throw new UncheckedIOException(new IOException("Board " + index + " has an invalid offset"));
+        }
+        int at = (int) offset;
+        int entityCount = mapped.getInt(at + 12);
+        int length = BoardCatalogFile.recordBytes(entityCount);
+        if (entityCount < 0 || at + (long) length > indexOffset) {
+            throw new UncheckedIOException(new IOException("Board " + index + " is truncated"));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(mapped.slice(at, length - Integer.BYTES));
+        if ((int) crc.getValue() != mapped.getInt(at + length - Integer.BYTES)) {
+            throw new UncheckedIOException(new IOException("Board " + index + " failed its checksum"));
+        }
+        IntBuffer ints = mapped.slice(at, length).asIntBuffer();
+        int size = ints.get();
+        int width = ints.get();
+        boolean chained = (ints.get() & BoardCatalogFile.FLAG_CHAINED) != 0;
+        ints.get();
+        int[] starts = new int[entityCount];
+        int[] ends = new int[entityCount];
+        ints.get(starts);
+        ints.get(ends);
+        return Board.of(size, width, starts, ends, chained);
+    }
+    
+    // Writes one board per line in the form accepted by BoardCatalogWriter.importText
+    public void exportText(Path text) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(text, StandardCharsets.UTF_8)) {
+            out.write("# size width [chained] start:end ...");
+            out.newLine();
+            for (int index = 0; index < boardCount; index++) {
+                out.write(toText(get(index)));
+                out.newLine();
+            }
+        }
+    }
+    
+    public static String toText(Board board) {
+        Board compiled = board.compile();
+        StringBuilder sb = new StringBuilder();
+        sb.append(compiled.getSize()).append(' ').append(compiled.getWidth());
+        if (compiled.isChainResolution()) {
+            sb.append(" chained");
+        }
+        for (BoardEntity entity : compiled.getEntities()) {
+            sb.append(' ').append(entity.getStart()).append(':').append(entity.getEnd());
+        }
+        return sb.toString();
+    }
+    
+    public static Board fromText(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        if (tokens.length < 2) throw new IllegalArgumentException("Expected a board size and width");
+        try {
+            int size = Integer.parseInt(tokens[0]);
+            int width = Integer.parseInt(tokens[1]);
+            int first = 2;
+            boolean chained = tokens.length > 2 && tokens[2].equals("chained");
+            if (chained) first++;
+            int[] starts = new int[tokens.length - first];
+            int[] ends = new int[tokens.length - first];
+            for (int i = first; i < tokens.length; i++) {
+                int colon = tokens[i].indexOf(':');
+                if (colon < 0) throw new IllegalArgumentException("Expected start:end but found " + tokens[i]);
+                starts[i - first] = Integer.parseInt(tokens[i].substring(0, colon));
+                ends[i - first] = Integer.parseInt(tokens[i].substring(colon + 1));
+            }
+            return Board.of(size, width, starts, ends, chained);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed number in board line: " + e.getMessage(), e);
+        }
+    }
+    
+    public void close() throws IOException {
+        channel.close();
+    }
+}
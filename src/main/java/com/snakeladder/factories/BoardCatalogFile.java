@@ -0,0 +1,23 @@
+package com.snakeladder.factories;
+
+// Layout shared by BoardCatalogWriter and BoardCatalog. A fixed header is followed by one record per board
+// and then an index of record offsets (long), which lets boards be appended without knowing the count up front.
+// Each record is size, width, flags, entity count, the sorted starts, the matching ends (all int) and a CRC32
+// of everything before it in the record.
+final class BoardCatalogFile {
+    static final int MAGIC = 0x534C4243;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int COUNT_OFFSET = 8;
+    static final int INDEX_OFFSET = 16;
+    static final int INDEX_CRC_OFFSET = 24;
+    static final int RECORD_HEADER_BYTES = 16;
+    
+    static final int FLAG_CHAINED = 1;
+    
+    private BoardCatalogFile() {}
+    
+    static int recordBytes(int entityCount) {
+        return RECORD_HEADER_BYTES + entityCount * 2 * Integer.BYTES + Integer.BYTES;
+    }
+}
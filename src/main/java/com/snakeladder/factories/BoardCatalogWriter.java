@@ -0,0 +1,117 @@
+package com.snakeladder.factories;
+
+import com.snakeladder.interfaces.BoardEntity;
+import com.snakeladder.models.Board;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+public class BoardCatalogWriter implements Closeable {
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private long[] offsets = new long[1024];
+    private int count = 0;
+    private long position = BoardCatalogFile.HEADER_BYTES;
+    
+    private BoardCatalogWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+    
+    // The header stays zeroed until close(), so a catalogue that was never finished cannot be opened
+    public static BoardCatalogWriter create(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            writeFully(channel, ByteBuffer.allocate(BoardCatalogFile.HEADER_BYTES), 0);
+            return new BoardCatalogWriter(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    // Converts a text catalogue (see BoardCatalog.toText) into the binary form
+    public static int importText(Path text, Path catalog) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(text, StandardCharsets.UTF_8);
+             BoardCatalogWriter out = create(catalog)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                try {
+                    out.add(BoardCatalog.fromText(line));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Line " + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+            return out.getBoardCount();
+        }
+    }
+    
+    public void add(Board board) throws IOException {
+        Board compiled = board.compile();
+        int entityCount = compiled.getEntityCount();
+        ByteBuffer record = ByteBuffer.allocate(BoardCatalogFile.recordBytes(entityCount));
+        record.putInt(compiled.getSize());
+        record.putInt(compiled.getWidth());
+        record.putInt(compiled.isChainResolution() ? BoardCatalogFile.FLAG_CHAINED : 0);
+        record.putInt(entityCount);
+        int endsOffset = BoardCatalogFile.RECORD_HEADER_BYTES + entityCount * Integer.BYTES;
+        int entity = 0;
+        for (BoardEntity each : compiled.getEntities()) {
+            record.putInt(BoardCatalogFile.RECORD_HEADER_BYTES + entity * Integer.BYTES, each.getStart());
+            record.putInt(endsOffset + entity * Integer.BYTES, each.getEnd());
+            entity++;
+        }
+        crc.reset();
+        crc.update(record.array(), 0, record.capacity() - Integer.BYTES);
+        record.putInt(record.capacity() - Integer.BYTES, (int) crc.getValue());
+        record.clear();
+        
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = position;
+        writeFully(channel, record, position);
+        position += record.capacity();
+    }
+    
+    public int getBoardCount() {
+        return count;
+    }
+    
+    public void close() throws IOException {
+        try {
+            ByteBuffer index = ByteBuffer.allocate(count * Long.BYTES);
+            index.asLongBuffer().put(offsets, 0, count);
+            crc.reset();
+            crc.update(index.array());
+            writeFully(channel, index, position);
+            
+            ByteBuffer header = ByteBuffer.allocate(BoardCatalogFile.HEADER_BYTES);
+            header.putInt(BoardCatalogFile.MAGIC);
+            header.put(BoardCatalogFile.VERSION);
+            header.putInt(BoardCatalogFile.COUNT_OFFSET, count);
+            header.putLong(BoardCatalogFile.INDEX_OFFSET, position);
+            header.putInt(BoardCatalogFile.INDEX_CRC_OFFSET, (int) crc.getValue());
+            header.clear();
+            writeFully(channel, header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+}
@@ -2,23 +2,25 @@ package com.snakeladder.factories;
 
 import com.snakeladder.models.*;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 public class BoardFactory {
     private static final Random random = new Random();
     
     private enum Difficulty { EASY, MEDIUM, HARD }
     
-    private static int getRow(int position, int boardSize) {
-        int boardWidth = (int) Math.sqrt(boardSize);
-        return (position - 1) / boardWidth + 1;
+    private static final int MAX_ROWS_SPANNED = 4;
+    
+    private static int getRow(int position, int width) {
+        return (position - 1) / width + 1;
     }
     
-    private static boolean isValidLadder(int bottom, int top, int boardSize) {
-        return bottom < top && getRow(bottom, boardSize) < getRow(top, boardSize);
+    static boolean isValidLadder(int bottom, int top, int width) {
+        return bottom < top && getRow(bottom, width) < getRow(top, width);
     }
     
-    private static boolean isValidSnake(int head, int tail, int boardSize) {
-        return head > tail && getRow(head, boardSize) > getRow(tail, boardSize);
+    static boolean isValidSnake(int head, int tail, int width) {
+        return head > tail && getRow(head, width) > getRow(tail, width);
     }
     
     public static Board createEasyBoard() {
@@ -33,6 +35,54 @@ public class BoardFactory {
         return createBoard(Difficulty.HARD);
     }
     
+    // Random board of any size and row width with about as many snakes as ladders, each spanning at most a few
+    // rows and no two sharing a square. Entities go straight into primitive arrays, so boards with millions
+    // of squares and hundreds of thousands of entities build in milliseconds.
+    public static Board createLargeBoard(int size, int width, int entityCount, long seed) {
+        if (size < 4) throw new IllegalArgumentException("Board size must be at least 4");
+        if (width <= 0 || width >= size) throw new IllegalArgumentException("Row width must be between 1 and " + (size - 1));
+        if (entityCount < 0 || 2 * entityCount > size - 2) {
+            throw new IllegalArgumentException("Cannot place " + entityCount + " entities on a board of size " + size);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] used = new long[(size >>> 6) + 1];
+        used[0] |= 1L;
+        used[size >>> 6] |= 1L << size;
+        int[] starts = new int[entityCount];
+        int[] ends = new int[entityCount];
+        int span = width * MAX_ROWS_SPANNED;
+        int lastRow = getRow(size - 1, width);
+        int placed = 0;
+        for (long attempt = 0; placed < entityCount; attempt++) {
+            if (attempt > 100L * size) throw new IllegalStateException("Could not place " + entityCount + " entities");
+            int start = 1 + random.nextInt(size - 1);
+            int row = getRow(start, width);
+            boolean ladder = (placed & 1) == 0;
+            int low, high;
+            if (ladder) {
+                if (row == lastRow) continue;
+                low = row * width + 1;
+                high = Math.min(size - 1, row * width + span);
+            } else {
+                if (row == 1) continue;
+                low = Math.max(1, (row - 1) * width - span + 1);
+                high = (row - 1) * width;
+            }
+            int end = low + random.nextInt(high - low + 1);
+            if (isUsed(used, start) || isUsed(used, end)) continue;
+            used[start >>> 6] |= 1L << start;
+            used[end >>> 6] |= 1L << end;
+            starts[placed] = start;
+            ends[placed] = end;
+            placed++;
+        }
+        return Board.of(size, width, starts, ends, false);
+    }
+    
+    private static boolean isUsed(long[] used, int position) {
+        return (used[position >>> 6] & (1L << position)) != 0;
+    }
+    
     private static Board createBoard(Difficulty difficulty) {
         switch (difficulty) {
             case EASY: return createEasyBoardInternal();
@@ -93,7 +143,7 @@ public class BoardFactory {
         while (laddersAdded < 12 && attempts < 100) {
             int start = random.nextInt(130) + 5;
             int end = start + random.nextInt(40) + 15;
-            if (end <= 144 && isValidLadder(start, end, 144)) {
+            if (end <= 144 && isValidLadder(start, end, board.getWidth())) {
                 board.addEntity(new Ladder(start, end));
                 laddersAdded++;
             }
@@ -105,7 +155,7 @@ public class BoardFactory {
         while (snakesAdded < 15 && attempts < 100) {
             int head = random.nextInt(120) + 25;
             int tail = head - random.nextInt(20) - 10;
-            if (tail > 0 && isValidSnake(head, tail, 144)) {
+            if (tail > 0 && isValidSnake(head, tail, board.getWidth())) {
                 board.addEntity(new Snake(head, tail));
                 snakesAdded++;
             }
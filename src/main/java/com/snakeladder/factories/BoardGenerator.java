@@ -0,0 +1,295 @@
+package com.snakeladder.factories;
+
+import com.snakeladder.analysis.MarkovResult;
+import com.snakeladder.analysis.MarkovSolver;
+import com.snakeladder.interfaces.WinningStrategy;
+import com.snakeladder.models.*;
+import com.snakeladder.strategies.ExactWinStrategy;
+import java.util.*;
+import java.util.stream.IntStream;
+
+public class BoardGenerator {
+    private static final int CACHE_CAPACITY = 256;
+    private static final Map<Spec, Board> cache = new LinkedHashMap<Spec, Board>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<Spec, Board> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+    private static final double SCORING_EPSILON = 1e-6;
+    private static final int SCORING_MAX_TURNS = 20_000;
+    private static final int REFINEMENT_STEPS = 24;
+    
+    private int size = 100;
+    private int width = 0;
+    private int ladders = 8;
+    private int snakes = 8;
+    private double targetExpectedTurns = Double.NaN;
+    private double tolerance = 1.0;
+    private int diceCount = 1;
+    private WinningStrategy winStrategy = new ExactWinStrategy();
+    private long seed = 0L;
+    private int maxCandidates = 4096;
+    
+    public static BoardGenerator builder() {
+        return new BoardGenerator();
+    }
+    
+    public BoardGenerator withSize(int size) {
+        this.size = size;
+        return this;
+    }
+    
+    public BoardGenerator withWidth(int width) {
+        this.width = width;
+        return this;
+    }
+    
+    public BoardGenerator withLadders(int ladders) {
+        this.ladders = ladders;
+        return this;
+    }
+    
+    public BoardGenerator withSnakes(int snakes) {
+        this.snakes = snakes;
+        return this;
+    }
+    
+    public BoardGenerator withDensity(double entitiesPerSquare) {
+        int entities = (int) Math.round(size * entitiesPerSquare);
+        this.ladders = entities / 2;
+        this.snakes = entities - ladders;
+        return this;
+    }
+    
+    public BoardGenerator withTargetExpectedTurns(double targetExpectedTurns) {
+        this.targetExpectedTurns = targetExpectedTurns;
+        return this;
+    }
+    
+    public BoardGenerator withTolerance(double tolerance) {
+        this.tolerance = tolerance;
+        return this;
+    }
+    
+    public BoardGenerator withDiceCount(int diceCount) {
+        this.diceCount = diceCount;
+        return this;
+    }
+    
+    public BoardGenerator withWinningStrategy(WinningStrategy winStrategy) {
+        this.winStrategy = winStrategy;
+        return this;
+    }
+    
+    public BoardGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+    
+    public BoardGenerator withMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+        return this;
+    }
+    
+    public Board generate() {
+        validate();
+        Spec spec = new Spec(size, rowWidth(), ladders, snakes, targetExpectedTurns, tolerance, diceCount,
+            winStrategy.getClass().getName(), seed);
+        synchronized (cache) {
+            Board cached = cache.get(spec);
+            if (cached != null) return cached;
+        }
+        // Searched outside the lock; a racing search of the same spec yields an identical board
+        Board board = search();
+        synchronized (cache) {
+            Board raced = cache.putIfAbsent(spec, board);
+            return raced != null ? raced : board;
+        }
+    }
+    
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+    
+    private void validate() {
+        if (size < 4) throw new IllegalArgumentException("Board size must be at least 4");
+        if (width < 0 || width >= size) throw new IllegalArgumentException("Row width must be between 1 and " + (size - 1));
+        if (ladders < 0 || snakes < 0) throw new IllegalArgumentException("Entity counts cannot be negative");
+        if (2 * (ladders + snakes) > size - 2) throw new IllegalArgumentException("Too many entities for board size " + size);
+        if (Double.isNaN(targetExpectedTurns)) throw new IllegalArgumentException("Target expected turns is required");
+        if (tolerance <= 0) throw new IllegalArgumentException("Tolerance must be positive");
+        if (diceCount <= 0) throw new IllegalArgumentException("Dice count must be positive");
+        if (winStrategy == null) throw new IllegalArgumentException("WinningStrategy is required");
+        if (maxCandidates <= 0) throw new IllegalArgumentException("Candidate limit must be positive");
+        // e.g. exact win with two dice: a token on the square before the last can never roll a 1
+        if (!score(new Board(size)).isComplete()) {
+            throw new IllegalArgumentException(diceCount + " dice with " + winStrategy.getClass().getSimpleName()
+                + " cannot always finish a board of size " + size);
+        }
+    }
+    
+    // Unset widths fall back to a square board, as new Board(size) does
+    private int rowWidth() {
+        return width > 0 ? width : new Board(size).getWidth();
+    }
+    
+    // Candidates are evaluated in parallel batches; the lowest accepted index wins so results are reproducible
+    private Board search() {
+        int batchSize = Math.max(1, Runtime.getRuntime().availableProcessors() * 2);
+        for (int first = 0; first < maxCandidates; first += batchSize) {
+            int last = Math.min(maxCandidates, first + batchSize);
+            Optional<Candidate> accepted = IntStream.range(first, last).parallel()
+                .mapToObj(this::refine)
+                .filter(candidate -> Math.abs(candidate.expectedTurns - targetExpectedTurns) <= tolerance)
+                .min(Comparator.comparingInt(candidate -> candidate.index));
+            if (accepted.isPresent()) {
+                return accepted.get().toBoard();
+            }
+        }
+        throw new IllegalStateException("No board within " + tolerance + " turns of " + targetExpectedTurns
+            + " after " + maxCandidates + " candidates");
+    }
+    
+    private Candidate refine(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        Candidate candidate = new Candidate(index, size, rowWidth());
+        for (int i = 0; i < ladders; i++) candidate.addLadder(random);
+        for (int i = 0; i < snakes; i++) candidate.addSnake(random);
+        candidate.expectedTurns = evaluate(candidate.toBoard());
+        
+        for (int step = 0; step < REFINEMENT_STEPS && candidate.entityCount() > 0; step++) {
+            double error = Math.abs(candidate.expectedTurns - targetExpectedTurns);
+            if (error <= tolerance) break;
+            int victim = random.nextInt(candidate.entityCount());
+            int[] removed = candidate.remove(victim);
+            if (removed[1] > removed[0]) {
+                candidate.addLadder(random);
+            } else {
+                candidate.addSnake(random);
+            }
+            double score = evaluate(candidate.toBoard());
+            if (Math.abs(score - targetExpectedTurns) < error) {
+                candidate.expectedTurns = score;
+            } else {
+                candidate.remove(candidate.entityCount() - 1);
+                candidate.add(removed[0], removed[1]);
+            }
+        }
+        return candidate;
+    }
+    
+    // Boards some games never finish on, or that do not resolve within the scoring horizon, score as infinite
+    private double evaluate(Board board) {
+        MarkovResult result = score(board);
+        return result.isComplete() ? result.getExpectedTurns() : Double.POSITIVE_INFINITY;
+    }
+    
+    private MarkovResult score(Board board) {
+        return new MarkovSolver(board, diceCount, winStrategy)
+            .withEpsilon(SCORING_EPSILON)
+            .withMaxTurns(SCORING_MAX_TURNS)
+            .solve();
+    }
+    
+    private static final class Candidate {
+        final int index;
+        final int width;
+        final boolean[] used;
+        final List<int[]> entities = new ArrayList<>();
+        double expectedTurns;
+        
+        Candidate(int index, int size, int width) {
+            this.index = index;
+            this.width = width;
+            this.used = new boolean[size + 1];
+            used[0] = true;
+            used[size] = true;
+        }
+        
+        int entityCount() { return entities.size(); }
+        
+        void addLadder(SplittableRandom random) {
+            int size = used.length - 1;
+            for (int attempt = 0; attempt < size * 100; attempt++) {
+                int bottom = 1 + random.nextInt(size - 1);
+                int top = 1 + random.nextInt(size - 1);
+                if (!used[bottom] && !used[top] && BoardFactory.isValidLadder(bottom, top, width)) {
+                    add(bottom, top);
+                    return;
+                }
+            }
+            throw new IllegalStateException("No room left for another ladder on a board of size " + size);
+        }
+        
+        void addSnake(SplittableRandom random) {
+            int size = used.length - 1;
+            for (int attempt = 0; attempt < size * 100; attempt++) {
+                int head = 1 + random.nextInt(size - 1);
+                int tail = 1 + random.nextInt(size - 1);
+                if (!used[head] && !used[tail] && BoardFactory.isValidSnake(head, tail, width)) {
+                    add(head, tail);
+                    return;
+                }
+            }
+            throw new IllegalStateException("No room left for another snake on a board of size " + size);
+        }
+        
+        void add(int start, int end) {
+            used[start] = true;
+            used[end] = true;
+            entities.add(new int[] {start, end});
+        }
+        
+        int[] remove(int position) {
+            int[] entity = entities.remove(position);
+            used[entity[0]] = false;
+            used[entity[1]] = false;
+            return entity;
+        }
+        
+        Board toBoard() {
+            Board board = new Board(used.length - 1, width);
+            for (int[] entity : entities) {
+                board.addEntity(entity[1] > entity[0] ? new Ladder(entity[0], entity[1]) : new Snake(entity[0], entity[1]));
+            }
+            return board.compile();
+        }
+    }
+    
+    private static final class Spec {
+        final int size, width, ladders, snakes, diceCount;
+        final double target, tolerance;
+        final String winStrategy;
+        final long seed;
+        
+        Spec(int size, int width, int ladders, int snakes, double target, double tolerance, int diceCount,
+             String winStrategy, long seed) {
+            this.size = size;
+            this.width = width;
+            this.ladders = ladders;
+            this.snakes = snakes;
+            this.target = target;
+            this.tolerance = tolerance;
+            this.diceCount = diceCount;
+            this.winStrategy = winStrategy;
+            this.seed = seed;
+        }
+        
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Spec)) return false;
+            Spec other = (Spec) o;
+            return size == other.size && width == other.width && ladders == other.ladders && snakes == other.snakes
+                && diceCount == other.diceCount && seed == other.seed
+                && Double.compare(target, other.target) == 0
+                && Double.compare(tolerance, other.tolerance) == 0
+                && winStrategy.equals(other.winStrategy);
+        }
+        
+        public int hashCode() {
+            return Objects.hash(size, width, ladders, snakes, target, tolerance, diceCount, winStrategy, seed);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.snakeladder.factories;
+
+import com.snakeladder.models.Board;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BoardRegistry {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int STRIPES = 16;
+    private static final BoardRegistry shared = new BoardRegistry(DEFAULT_CAPACITY);
+    
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    
+    public BoardRegistry(int capacity) {
+        if (capacity < STRIPES) throw new IllegalArgumentException("Capacity must be at least " + STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity / STRIPES);
+        }
+    }
+    
+    public static BoardRegistry shared() {
+        return shared;
+    }
+    
+    // Returns the registered board with the same layout, compiling and registering this one if none exists
+    public Board intern(Board board) {
+        Board compiled = board.compile();
+        Key key = new Key(compiled);
+        Stripe stripe = stripes[(int) (compiled.contentHash() >>> 32) & (STRIPES - 1)];
+        synchronized (stripe) {
+            Board existing = stripe.get(key);
+            if (existing != null) return existing;
+            stripe.put(key, compiled);
+            return compiled;
+        }
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+    
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class Stripe extends LinkedHashMap<Key, Board> {
+        private final int capacity;
+        
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+        
+        protected boolean removeEldestEntry(Map.Entry<Key, Board> eldest) {
+            return size() > capacity;
+        }
+    }
+    
+    private static final class Key {
+        private final Board board;
+        
+        Key(Board board) {
+            this.board = board;
+        }
+        
+        public boolean equals(Object o) {
+            return o instanceof Key && board.hasSameLayout(((Key) o).board);
+        }
+        
+        public int hashCode() {
+            return Long.hashCode(board.contentHash());
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.snakeladder.interfaces;
 
+import com.snakeladder.models.OccupancyIndex;
 import java.util.List;
 
 public interface CollisionStrategy {
     void handle(Player current, List<Player> all, int position);
     String getRule();
+    
+    default void handle(int seat, List<Player> all, int position, OccupancyIndex occupancy) {
+        handle(all.get(seat), all, position);
+    }
 }
@@ -0,0 +1,17 @@
+package com.snakeladder.interfaces;
+
+import java.util.List;
+
+public interface GameEventListener {
+    default void onGameStart(List<Player> players, int boardSize, String startRule) {}
+    default void onSkip(int seat) {}
+    default void onRoll(int seat, int roll) {}
+    default void onStartBlocked(int seat, int roll) {}
+    default void onStart(int seat) {}
+    default void onSpecialRule(int seat, int roll) {}
+    default void onEntity(int seat, int from, int to) {}
+    default void onMove(int seat, int from, int to) {}
+    default void onCollision(int seat, int victimSeat, int position) {}
+    default void onWin(int seat, int from, int to) {}
+    default void onGameOver(int winnerSeat) {}
+}
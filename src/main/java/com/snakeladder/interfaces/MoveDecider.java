@@ -0,0 +1,10 @@
+package com.snakeladder.interfaces;
+
+import com.snakeladder.Game;
+
+public interface MoveDecider {
+    int chooseMove(int position, boolean started, int consecutiveSixes, int[] dice, int diceCount);
+    
+    // Called when a dice-choice game is built; throws if this decider cannot play it
+    default void checkGame(Game game) {}
+}
@@ -0,0 +1,48 @@
+package com.snakeladder.listeners;
+
+import com.snakeladder.interfaces.GameEventListener;
+import com.snakeladder.interfaces.Player;
+import java.util.List;
+
+public class ConsoleGameEventListener implements GameEventListener {
+    private String[] names = new String[0];
+    
+    public void onGameStart(List<Player> players, int boardSize, String startRule) {
+        names = new String[players.size()];
+        for (int seat = 0; seat < names.length; seat++) {
+            names[seat] = players.get(seat).getName();
+        }
+        System.out.println("Starting game with " + players.size() + " players");
+        System.out.println("Board size: " + boardSize);
+        System.out.println("Start rule: " + startRule);
+        System.out.println();
+    }
+    
+    public void onSkip(int seat) {
+        System.out.println(name(seat) + " skips turn");
+    }
+    
+    public void onRoll(int seat, int roll) {
+        System.out.println(name(seat) + " rolled " + roll);
+    }
+    
+    public void onStartBlocked(int seat, int roll) {
+        System.out.println(name(seat) + " cannot start yet");
+    }
+    
+    public void onStart(int seat) {
+        System.out.println(name(seat) + " starts the game!");
+    }
+    
+    public void onMove(int seat, int from, int to) {
+        System.out.println(name(seat) + " moved from " + from + " to " + to);
+    }
+    
+    public void onGameOver(int winnerSeat) {
+        System.out.println("\nGame Over! Winner: " + name(winnerSeat));
+    }
+    
+    private String name(int seat) {
+        return seat < names.length ? names[seat] : "Player " + (seat + 1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.snakeladder.metrics;
+
+import com.snakeladder.TurnOutcome;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class GameMetrics {
+    public enum Counter {
+        GAMES, TURNS, SKIPS, STARTS_BLOCKED, SPECIAL_RULES, EXTRA_TURNS, SNAKE_HITS, LADDER_HITS, COLLISIONS
+    }
+    
+    public enum Timer {
+        TURN, APPLY_ENTITY, START_STRATEGY, SPECIAL_RULE, WIN_STRATEGY, COLLISION, TURN_CONTINUATION
+    }
+    
+    private static final GameMetrics GLOBAL = new GameMetrics();
+    private static volatile boolean enabled = Boolean.getBoolean("snakeladder.metrics");
+    private static volatile int timingInterval = Integer.getInteger("snakeladder.metrics.timingInterval", 64);
+    
+    private final LongAdder[] counters = new LongAdder[Counter.values().length];
+    private final Histogram[] timers = new Histogram[Timer.values().length];
+    private final Histogram turnsPerGame = new Histogram();
+    
+    private GameMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        for (int i = 0; i < timers.length; i++) {
+            timers[i] = new Histogram();
+        }
+    }
+    
+    public static GameMetrics global() { return GLOBAL; }
+    public static boolean isEnabled() { return enabled; }
+    public static void setEnabled(boolean on) { enabled = on; }
+    public static int getTimingInterval() { return timingInterval; }
+    
+    // Clock reads cost more than a whole turn, so timers only sample every n-th turn; counters see every turn
+    public static void setTimingInterval(int turns) {
+        if (turns <= 0) throw new IllegalArgumentException("Timing interval must be positive");
+        timingInterval = turns;
+    }
+    
+    // Null when disabled, so instrumented code pays a single volatile read per turn
+    public static GameMetrics active() {
+        return enabled ? GLOBAL : null;
+    }
+    
+    public void increment(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+    
+    public void add(Counter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+    
+    public void recordSince(Timer timer, long startNanos) {
+        timers[timer.ordinal()].record(System.nanoTime() - startNanos);
+    }
+    
+    // turnNanos is negative for turns that were not timed
+    public void turnCompleted(int seat, int roll, TurnOutcome outcome, int position, long turnNanos) {
+        counters[Counter.TURNS.ordinal()].increment();
+        if (turnNanos >= 0) timers[Timer.TURN.ordinal()].record(turnNanos);
+        switch (outcome) {
+            case SKIPPED: increment(Counter.SKIPS); break;
+            case START_BLOCKED: increment(Counter.STARTS_BLOCKED); break;
+            case SPECIAL_RULE: increment(Counter.SPECIAL_RULES); break;
+            case EXTRA_TURN: increment(Counter.EXTRA_TURNS); break;
+            default: break;
+        }
+        TurnEvent event = new TurnEvent();
+        if (event.isEnabled()) {
+            event.seat = seat;
+            event.roll = roll;
+            event.outcome = outcome.name();
+            event.position = position;
+            event.turnNanos = turnNanos;
+            event.commit();
+        }
+    }
+    
+    public void gameCompleted(int turns, int winnerSeat, int snakeHits, int ladderHits) {
+        counters[Counter.GAMES.ordinal()].increment();
+        turnsPerGame.record(turns);
+        GameOverEvent event = new GameOverEvent();
+        if (event.isEnabled()) {
+            event.turns = turns;
+            event.winnerSeat = winnerSeat;
+            event.snakeHits = snakeHits;
+            event.ladderHits = ladderHits;
+            event.commit();
+        }
+    }
+    
+    public long getCount(Counter counter) { return counters[counter.ordinal()].sum(); }
+    public Histogram getTimer(Timer timer) { return timers[timer.ordinal()]; }
+    public Histogram getTurnsPerGame() { return turnsPerGame; }
+    
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        for (Histogram timer : timers) {
+            timer.reset();
+        }
+        turnsPerGame.reset();
+    }
+    
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GameMetrics[");
+        for (Counter counter : Counter.values()) {
+            sb.append(counter.name().toLowerCase()).append('=').append(getCount(counter)).append(", ");
+        }
+        sb.append("turns per game {").append(turnsPerGame).append("}");
+        for (Timer timer : Timer.values()) {
+            sb.append(", ").append(timer.name().toLowerCase()).append(" ns {").append(getTimer(timer)).append("}");
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.snakeladder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.snakeladder.GameOver")
+@Label("Game Over")
+@Category("Snake and Ladder")
+@StackTrace(false)
+final class GameOverEvent extends jdk.jfr.Event {
+    @Label("Turns")
+    int turns;
+    
+    @Label("Winner Seat")
+    int winnerSeat;
+    
+    @Label("Snake Hits")
+    int snakeHits;
+    
+    @Label("Ladder Hits")
+    int ladderHits;
+}
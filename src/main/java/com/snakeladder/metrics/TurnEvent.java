@@ -0,0 +1,31 @@
+package com.snakeladder.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.snakeladder.Turn")
+@Label("Turn")
+@Category("Snake and Ladder")
+@StackTrace(false)
+@Enabled(false)
+final class TurnEvent extends jdk.jfr.Event {
+    @Label("Seat")
+    int seat;
+    
+    @Label("Roll")
+    int roll;
+    
+    @Label("Outcome")
+    String outcome;
+    
+    @Label("Position")
+    int position;
+    
+    @Label("Turn Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long turnNanos;
+}
@@ -4,21 +4,267 @@ import com.snakeladder.interfaces.BoardEntity;
 import java.util.*;
 
 public class Board {
+    // Compiled boards up to this size get a dense jump table; larger ones look entities up by hash
+    private static final int DENSE_TABLE_LIMIT = 1 << 16;
+    private static final int NONE = -1;
+    
     private final int size;
+    private final int width;
     private final Map<Integer, BoardEntity> entities;
+    private final int[] jumps;
+    private final boolean chained;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] targets;
+    private final int[] slots;
+    private final int slotShift;
+    private final long contentHash;
     
     public Board(int size) {
+        this(size, defaultWidth(size));
+    }
+    
+    public Board(int size, int width) {
+        if (width <= 0) throw new IllegalArgumentException("Row width must be positive");
         this.size = size;
+        this.width = width;
         this.entities = new HashMap<>();
+        this.jumps = null;
+        this.chained = false;
+        this.starts = null;
+        this.ends = null;
+        this.targets = null;
+        this.slots = null;
+        this.slotShift = 0;
+        this.contentHash = 0L;
+    }
+    
+    // Entities are held only as start/end arrays sorted by start; each start maps to its resolved destination
+    // through either a dense table or an open-addressing index of entity numbers
+    private Board(int size, int width, int[] starts, int[] ends, boolean chained) {
+        this.size = size;
+        this.width = width;
+        this.entities = null;
+        this.chained = chained;
+        this.starts = starts;
+        this.ends = ends;
+        this.targets = ends.clone();
+        if (size <= DENSE_TABLE_LIMIT || starts.length >= size / 8) {
+            int[] table = new int[size + 1];
+            for (int position = 0; position <= size; position++) {
+                table[position] = position;
+            }
+            for (int i = 0; i < starts.length; i++) {
+                if (starts[i] >= 0 && starts[i] <= size) {
+                    table[starts[i]] = ends[i];
+                }
+            }
+            if (chained) {
+                resolveChains(table);
+                for (int i = 0; i < starts.length; i++) {
+                    if (starts[i] >= 0 && starts[i] <= size) {
+                        targets[i] = table[starts[i]];
+                    }
+                }
+            }
+            this.jumps = table;
+            this.slots = null;
+            this.slotShift = 0;
+        } else {
+            int bits = Math.max(1, 33 - Integer.numberOfLeadingZeros(Math.max(1, starts.length - 1)));
+            this.jumps = null;
+            this.slotShift = 32 - bits;
+            this.slots = new int[1 << bits];
+            Arrays.fill(slots, NONE);
+            for (int i = 0; i < starts.length; i++) {
+                int slot = slotOf(starts[i]);
+                while (slots[slot] != NONE) {
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+                slots[slot] = i;
+            }
+            if (chained) {
+                resolveSparseChains();
+            }
+        }
+        this.contentHash = hashLayout(size, width, chained, starts, ends);
+    }
+    
+    // Builds a compiled board straight from entity endpoints, without creating a Snake or Ladder per entity
+    public static Board of(int size, int width, int[] starts, int[] ends, boolean chainResolution) {
+        if (width <= 0) throw new IllegalArgumentException("Row width must be positive");
+        if (starts.length != ends.length) throw new IllegalArgumentException("Every entity needs a start and an end");
+        long[] packed = new long[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] < 0 || starts[i] > size || ends[i] < 0 || ends[i] > size || starts[i] == ends[i]) {
+                throw new IllegalArgumentException("Invalid entity " + starts[i] + "->" + ends[i] + " on a board of size " + size);
+            }
+            packed[i] = ((long) starts[i] << 32) | ends[i];
+        }
+        Arrays.sort(packed);
+        int[] sortedStarts = new int[packed.length];
+        int[] sortedEnds = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            sortedStarts[i] = (int) (packed[i] >>> 32);
+            sortedEnds[i] = (int) packed[i];
+            if (i > 0 && sortedStarts[i] == sortedStarts[i - 1]) {
+                throw new IllegalArgumentException("Two entities start at position " + sortedStarts[i]);
+            }
+        }
+        return new Board(size, width, sortedStarts, sortedEnds, chainResolution);
+    }
+    
+    private static int defaultWidth(int size) {
+        return Math.max(1, (int) Math.sqrt(size));
     }
     
+    private static long hashLayout(int size, int width, boolean chained, int[] starts, int[] ends) {
+        long hash = mix(0x9E3779B97F4A7C15L * (size + 1) + width) + (chained ? 1 : 0);
+        for (int i = 0; i < starts.length; i++) {
+            hash = mix(hash ^ starts[i]);
+            hash = mix(hash ^ ends[i]);
+        }
+        return mix(hash ^ starts.length);
+    }
+    
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private int slotOf(int position) {
+        return (position * 0x9E3779B9) >>> slotShift;
+    }
+    
+    private int indexOf(int position) {
+        if (slots == null) {
+            int index = Arrays.binarySearch(starts, position);
+            return index >= 0 ? index : NONE;
+        }
+        int slot = slotOf(position);
+        int index;
+        while ((index = slots[slot]) != NONE) {
+            if (starts[index] == position) return index;
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return NONE;
+    }
     
     public void addEntity(BoardEntity entity) {
+        if (isFrozen()) throw new IllegalStateException("Cannot add entities to a compiled board");
         entities.put(entity.getStart(), entity);
     }
     
+    public Board compile() {
+        return isFrozen() ? this : compile(false);
+    }
+    
+    public Board compile(boolean chainResolution) {
+        if (isFrozen()) {
+            return chained == chainResolution ? this : new Board(size, width, starts, ends, chainResolution);
+        }
+        List<BoardEntity> sorted = new ArrayList<>(entities.values());
+        sorted.sort(Comparator.comparingInt(BoardEntity::getStart));
+        int[] entityStarts = new int[sorted.size()];
+        int[] entityEnds = new int[sorted.size()];
+        for (int i = 0; i < entityStarts.length; i++) {
+            entityStarts[i] = sorted.get(i).getStart();
+            entityEnds[i] = sorted.get(i).apply(entityStarts[i]);
+        }
+        return new Board(size, width, entityStarts, entityEnds, chainResolution);
+    }
+    
+    private static void resolveChains(int[] table) {
+        final byte unvisited = 0, visiting = 1, resolved = 2;
+        byte[] state = new byte[table.length];
+        int[] path = new int[table.length];
+        for (int start = 0; start < table.length; start++) {
+            if (state[start] == resolved) continue;
+            int length = 0;
+            int position = start;
+            int destination;
+            while (true) {
+                if (state[position] == resolved) {
+                    destination = table[position];
+                    break;
+                }
+                if (state[position] == visiting) {
+                    throw new IllegalStateException("Snakes and ladders form a cycle through position " + position);
+                }
+                state[position] = visiting;
+                path[length++] = position;
+                int next = table[position];
+                if (next == position || next < 0 || next >= table.length) {
+                    destination = next;
+                    break;
+                }
+                position = next;
+            }
+            for (int i = 0; i < length; i++) {
+                table[path[i]] = destination;
+                state[path[i]] = resolved;
+            }
+        }
+    }
+    
+    // Same walk as resolveChains, over entity numbers instead of squares
+    private void resolveSparseChains() {
+        final byte visiting = 1, resolved = 2;
+        byte[] state = new byte[starts.length];
+        int[] path = new int[starts.length];
+        for (int start = 0; start < starts.length; start++) {
+            if (state[start] == resolved) continue;
+            int length = 0;
+            int index = start;
+            int destination;
+            while (true) {
+                if (state[index] == resolved) {
+                    destination = targets[index];
+                    break;
+                }
+                if (state[index] == visiting) {
+                    throw new IllegalStateException("Snakes and ladders form a cycle through position " + starts[index]);
+                }
+                state[index] = visiting;
+                path[length++] = index;
+                int next = indexOf(targets[index]);
+                if (next == NONE) {
+                    destination = targets[index];
+                    break;
+                }
+                index = next;
+            }
+            for (int i = 0; i < length; i++) {
+                targets[path[i]] = destination;
+                state[path[i]] = resolved;
+            }
+        }
+    }
+    
+    public boolean isChainResolution() {
+        return chained;
+    }
+    
+    public long contentHash() {
+        if (!isFrozen()) throw new IllegalStateException("Only compiled boards have a content hash");
+        return contentHash;
+    }
+    
+    public boolean hasSameLayout(Board other) {
+        if (this == other) return true;
+        if (!isFrozen() || other == null || !other.isFrozen()) return false;
+        return contentHash == other.contentHash && size == other.size && width == other.width && chained == other.chained
+            && Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends);
+    }
+    
+    public boolean isFrozen() {
+        return starts != null;
+    }
+    
     public Board copy() {
-        Board copy = new Board(this.size);
+        if (isFrozen()) return this;
+        Board copy = new Board(this.size, this.width);
         for (BoardEntity entity : this.entities.values()) {
             copy.addEntity(entity.copy());
         }
@@ -26,15 +272,65 @@ public class Board {
     }
     
     public int applyEntity(int position) {
+        if (jumps != null) {
+            return position >= 0 && position < jumps.length ? jumps[position] : position;
+        }
+        if (slots != null) {
+            int index = indexOf(position);
+            return index != NONE ? targets[index] : position;
+        }
         BoardEntity entity = entities.get(position);
         return entity != null ? entity.apply(position) : position;
     }
     
+    public int[] getJumpTable() {
+        if (!isFrozen()) throw new IllegalStateException("Only compiled boards have a jump table");
+        if (jumps != null) return jumps.clone();
+        int[] table = new int[size + 1];
+        for (int position = 0; position <= size; position++) {
+            table[position] = position;
+        }
+        for (int i = 0; i < starts.length; i++) {
+            table[starts[i]] = targets[i];
+        }
+        return table;
+    }
+    
     public int getSize() { return size; }
-    public Collection<BoardEntity> getEntities() { return new ArrayList<>(entities.values()); }
-    public boolean hasEntity(int position) { return entities.containsKey(position); }
+    public int getWidth() { return width; }
+    
+    public int getRow(int position) {
+        return (position - 1) / width + 1;
+    }
+    
+    public int getEntityCount() {
+        return isFrozen() ? starts.length : entities.size();
+    }
+    
+    // Compiled boards hand out entities as a view over their arrays, so huge boards never hold an object per entity
+    public Collection<BoardEntity> getEntities() {
+        if (!isFrozen()) return new ArrayList<>(entities.values());
+        return new EntityView();
+    }
+    
+    public boolean hasEntity(int position) {
+        if (jumps != null && position >= 0 && position < jumps.length) {
+            return jumps[position] != position;
+        }
+        return isFrozen() ? indexOf(position) != NONE : entities.containsKey(position);
+    }
     
     public String toString() {
-        return "Board[" + size + "] with " + entities.size() + " entities";
+        return "Board[" + size + "] with " + getEntityCount() + " entities";
+    }
+    
+    private final class EntityView extends AbstractList<BoardEntity> implements RandomAccess {
+        public BoardEntity get(int index) {
+            return ends[index] > starts[index] ? new Ladder(starts[index], ends[index]) : new Snake(starts[index], ends[index]);
+        }
+        
+        public int size() {
+            return starts.length;
+        }
     }
 }
@@ -1,14 +1,21 @@
 package com.snakeladder.models;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public enum Dice {
     INSTANCE;
     
+    public static final int FACES = 6;
+    
     private final Random random = new Random();
     
+    public static int roll(RandomGenerator random) {
+        return random.nextInt(FACES) + 1;
+    }
+    
     public int roll() {
-        return random.nextInt(6) + 1;
+        return roll(random);
     }
     
     public int rollMultiple(int count) {
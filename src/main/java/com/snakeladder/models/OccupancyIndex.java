@@ -0,0 +1,99 @@
+package com.snakeladder.models;
+
+import java.util.Arrays;
+
+public final class OccupancyIndex {
+    private static final int NONE = -1;
+    
+    // Seats on the same square form an intrusive doubly linked list headed at firstOnSquare
+    private final int[] firstOnSquare;
+    private final int[] countOnSquare;
+    private final int[] square;
+    private final int[] nextOnSquare;
+    private final int[] previousOnSquare;
+    
+    public OccupancyIndex(int squares, int seats) {
+        this.firstOnSquare = new int[squares];
+        this.countOnSquare = new int[squares];
+        this.square = new int[seats];
+        this.nextOnSquare = new int[seats];
+        this.previousOnSquare = new int[seats];
+        Arrays.fill(firstOnSquare, NONE);
+        Arrays.fill(square, NONE);
+        Arrays.fill(nextOnSquare, NONE);
+        Arrays.fill(previousOnSquare, NONE);
+    }
+    
+    // Only squares holding a seat can be non-empty, so clearing costs the seat count rather than the board size
+    public void clear() {
+        for (int seat = 0; seat < square.length; seat++) {
+            if (square[seat] != NONE) {
+                unlink(seat, square[seat]);
+            }
+        }
+    }
+    
+    public void move(int seat, int to) {
+        int from = square[seat];
+        if (from == to) return;
+        if (from != NONE) {
+            unlink(seat, from);
+        }
+        if (to >= 0 && to < firstOnSquare.length) {
+            link(seat, to);
+        }
+    }
+    
+    public int first(int position) {
+        return inRange(position) ? firstOnSquare[position] : NONE;
+    }
+    
+    public int next(int seat) {
+        return nextOnSquare[seat];
+    }
+    
+    public int count(int position) {
+        return inRange(position) ? countOnSquare[position] : 0;
+    }
+    
+    public boolean isOccupied(int position) {
+        return count(position) > 0;
+    }
+    
+    public int squareOf(int seat) {
+        return square[seat];
+    }
+    
+    private boolean inRange(int position) {
+        return position >= 0 && position < firstOnSquare.length;
+    }
+    
+    private void link(int seat, int position) {
+        int head = firstOnSquare[position];
+        nextOnSquare[seat] = head;
+        previousOnSquare[seat] = NONE;
+        if (head != NONE) {
+            previousOnSquare[head] = seat;
+        }
+        firstOnSquare[position] = seat;
+        countOnSquare[position]++;
+        square[seat] = position;
+    }
+    
+    private void unlink(int seat, int position) {
+        int previous = previousOnSquare[seat];
+        int next = nextOnSquare[seat];
+        if (previous != NONE) {
+            nextOnSquare[previous] = next;
+        } else {
+            firstOnSquare[position] = next;
+        }
+        if (next != NONE) {
+            previousOnSquare[next] = previous;
+        }
+        nextOnSquare[seat] = NONE;
+        previousOnSquare[seat] = NONE;
+        countOnSquare[position]--;
+        square[seat] = NONE;
+    }
+}
@@ -0,0 +1,95 @@
+package com.snakeladder.models;
+
+import com.snakeladder.interfaces.Player;
+import java.util.*;
+
+public final class PlayerStateStore {
+    private final Player[] prototypes;
+    private final int[] positions;
+    private final boolean[] started;
+    private final int[] consecutiveSixes;
+    private final boolean[] skipTurn;
+    private final List<Player> views;
+    private OccupancyIndex occupancy;
+    
+    public PlayerStateStore(List<Player> players) {
+        int count = players.size();
+        this.prototypes = new Player[count];
+        this.positions = new int[count];
+        this.started = new boolean[count];
+        this.consecutiveSixes = new int[count];
+        this.skipTurn = new boolean[count];
+        List<Player> seatViews = new ArrayList<>(count);
+        for (int seat = 0; seat < count; seat++) {
+            prototypes[seat] = players.get(seat).copy();
+            seatViews.add(new SeatPlayer(this, seat));
+        }
+        this.views = Collections.unmodifiableList(seatViews);
+        restoreInitialState();
+    }
+    
+    public void restoreInitialState() {
+        for (int seat = 0; seat < prototypes.length; seat++) {
+            Player prototype = prototypes[seat];
+            positions[seat] = prototype.getPosition();
+            started[seat] = prototype.hasStarted();
+            consecutiveSixes[seat] = prototype.getConsecutiveSixes();
+            skipTurn[seat] = prototype.shouldSkipTurn();
+        }
+        if (occupancy != null) {
+            occupancy.clear();
+            for (int seat = 0; seat < positions.length; seat++) {
+                occupancy.move(seat, positions[seat]);
+            }
+        }
+    }
+    
+    public void attachOccupancy(OccupancyIndex occupancy) {
+        this.occupancy = occupancy;
+        restoreInitialState();
+    }
+    
+    public int size() { return prototypes.length; }
+    public String getName(int seat) { return prototypes[seat].getName(); }
+    public String getType(int seat) { return prototypes[seat].getType(); }
+    
+    public int getPosition(int seat) { return positions[seat]; }
+    
+    public void setPosition(int seat, int position) {
+        positions[seat] = position;
+        if (occupancy != null) occupancy.move(seat, position);
+    }
+    
+    public boolean hasStarted(int seat) { return started[seat]; }
+    public void setStarted(int seat, boolean value) { started[seat] = value; }
+    public int getConsecutiveSixes(int seat) { return consecutiveSixes[seat]; }
+    public void setConsecutiveSixes(int seat, int count) { consecutiveSixes[seat] = count; }
+    public void incrementSixes(int seat) { consecutiveSixes[seat]++; }
+    public void resetSixes(int seat) { consecutiveSixes[seat] = 0; }
+    public boolean shouldSkipTurn(int seat) { return skipTurn[seat]; }
+    public void setSkipTurn(int seat, boolean skip) { skipTurn[seat] = skip; }
+    
+    public void reset(int seat) {
+        setPosition(seat, 0);
+        started[seat] = false;
+        consecutiveSixes[seat] = 0;
+        skipTurn[seat] = false;
+    }
+    
+    public Player view(int seat) {
+        return views.get(seat);
+    }
+    
+    public List<Player> views() {
+        return views;
+    }
+    
+    public Player detach(int seat) {
+        Player copy = prototypes[seat].copy();
+        copy.setPosition(positions[seat]);
+        copy.setStarted(started[seat]);
+        copy.setConsecutiveSixes(consecutiveSixes[seat]);
+        copy.setSkipTurn(skipTurn[seat]);
+        return copy;
+    }
+}
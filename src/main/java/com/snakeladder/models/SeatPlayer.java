@@ -0,0 +1,32 @@
+package com.snakeladder.models;
+
+import com.snakeladder.interfaces.Player;
+
+final class SeatPlayer implements Player {
+    private final PlayerStateStore store;
+    private final int seat;
+    
+    SeatPlayer(PlayerStateStore store, int seat) {
+        this.store = store;
+        this.seat = seat;
+    }
+    
+    public String getName() { return store.getName(seat); }
+    public int getPosition() { return store.getPosition(seat); }
+    public void setPosition(int position) { store.setPosition(seat, position); }
+    public boolean hasStarted() { return store.hasStarted(seat); }
+    public void setStarted(boolean started) { store.setStarted(seat, started); }
+    public int getConsecutiveSixes() { return store.getConsecutiveSixes(seat); }
+    public void setConsecutiveSixes(int count) { store.setConsecutiveSixes(seat, count); }
+    public void incrementSixes() { store.incrementSixes(seat); }
+    public void resetSixes() { store.resetSixes(seat); }
+    public boolean shouldSkipTurn() { return store.shouldSkipTurn(seat); }
+    public void setSkipTurn(boolean skip) { store.setSkipTurn(seat, skip); }
+    public void reset() { store.reset(seat); }
+    public String getType() { return store.getType(seat); }
+    public Player copy() { return store.detach(seat); }
+    
+    public String toString() {
+        return getName() + " (" + getType() + ") at " + getPosition();
+    }
+}
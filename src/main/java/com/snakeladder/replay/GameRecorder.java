@@ -0,0 +1,34 @@
+package com.snakeladder.replay;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.Player;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class GameRecorder implements Closeable {
+    private final RollJournalWriter journal;
+    private final Game game;
+    
+    private GameRecorder(RollJournalWriter journal, Game game) {
+        this.journal = journal;
+        this.game = game;
+    }
+    
+    public static GameRecorder start(Game.Builder builder, long seed, Path path) throws IOException {
+        Game config = builder.build();
+        for (Player player : config.getPlayers()) {
+            GameReplayer.checkRecreatable(player);
+        }
+        RollJournalWriter journal = RollJournalWriter.create(path, seed, config);
+        RecordingDiceService dice = new RecordingDiceService(config.getDiceService().getDiceCount(), journal);
+        return new GameRecorder(journal, builder.copy().withDiceService(dice).build());
+    }
+    
+    public Game getGame() { return game; }
+    public RollJournalWriter getJournal() { return journal; }
+    
+    public void close() throws IOException {
+        journal.close();
+    }
+}
@@ -0,0 +1,187 @@
+package com.snakeladder.replay;
+
+import com.snakeladder.Game;
+import com.snakeladder.ai.ExpectimaxBotPlayer;
+import com.snakeladder.ai.ExpectimaxPolicy;
+import com.snakeladder.interfaces.*;
+import com.snakeladder.models.*;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameReplayer {
+    private final long seed;
+    private final int diceCount;
+    private final Board board;
+    private final boolean chained;
+    private final boolean diceChoice;
+    private final List<Player> players;
+    private final String[] strategies;
+    private final byte[] rolls;
+    
+    private GameReplayer(long seed, int diceCount, Board board, boolean chained, boolean diceChoice,
+                         List<Player> players, String[] strategies, byte[] rolls) {
+        this.seed = seed;
+        this.diceCount = diceCount;
+        this.board = board;
+        this.chained = chained;
+        this.diceChoice = diceChoice;
+        this.players = players;
+        this.strategies = strategies;
+        this.rolls = rolls;
+    }
+    
+    public static GameReplayer load(Path path) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("Journal too large: " + path);
+            in = ByteBuffer.allocate((int) size);
+            while (in.hasRemaining()) {
+                if (channel.read(in) < 0) break;
+            }
+            in.flip();
+        }
+        try {
+            return parse(in);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated journal header: " + path, e);
+        }
+    }
+    
+    private static GameReplayer parse(ByteBuffer in) throws IOException {
+        if (in.getInt() != RollJournal.MAGIC) throw new IOException("Not a roll journal");
+        byte version = in.get();
+        if (version != RollJournal.VERSION) throw new IOException("Unsupported journal version " + version);
+        long seed = in.getLong();
+        int diceCount = in.get();
+        int flags = in.get();
+        boolean chained = (flags & RollJournal.FLAG_CHAINED) != 0;
+        boolean diceChoice = (flags & RollJournal.FLAG_DICE_CHOICE) != 0;
+        
+        int size = in.getInt();
+        Board board = new Board(size, in.getInt());
+        int entityCount = in.getInt();
+        for (int i = 0; i < entityCount; i++) {
+            int start = in.getInt();
+            int end = in.getInt();
+            board.addEntity(end > start ? new Ladder(start, end) : new Snake(start, end));
+        }
+        
+        int playerCount = in.getShort();
+        String[] classNames = new String[playerCount];
+        String[] names = new String[playerCount];
+        int[] positions = new int[playerCount];
+        boolean[] started = new boolean[playerCount];
+        int[] sixes = new int[playerCount];
+        boolean[] skips = new boolean[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            classNames[i] = readUtf(in);
+            names[i] = readUtf(in);
+            positions[i] = in.getInt();
+            started[i] = in.get() != 0;
+            sixes[i] = in.get();
+            skips[i] = in.get() != 0;
+        }
+        
+        String[] strategies = new String[5];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = readUtf(in);
+        }
+        
+        // Players are created last: expectimax bots are re-solved for the recorded board and rules
+        Board compiled = board.compile(chained);
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = createPlayer(classNames[i], names[i], compiled, diceCount, strategies);
+            player.setPosition(positions[i]);
+            player.setStarted(started[i]);
+            player.setConsecutiveSixes(sixes[i]);
+            player.setSkipTurn(skips[i]);
+            players.add(player);
+        }
+        
+        byte[] rolls = new byte[in.remaining()];
+        in.get(rolls);
+        return new GameReplayer(seed, diceCount, compiled, chained, diceChoice, players, strategies, rolls);
+    }
+    
+    private static String readUtf(ByteBuffer in) {
+        int length = in.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static Player createPlayer(String className, String name, Board board, int diceCount,
+                                       String[] strategies) throws IOException {
+        if (className.equals(ExpectimaxBotPlayer.class.getName())) {
+            return new ExpectimaxBotPlayer(name, ExpectimaxPolicy.forBoard(board, diceCount,
+                createStrategy(strategies[0], WinningStrategy.class),
+                createStrategy(strategies[1], GameStartStrategy.class),
+                createStrategy(strategies[2], SpecialRuleStrategy.class),
+                createStrategy(strategies[4], TurnContinuationStrategy.class)));
+        }
+        try {
+            return (Player) Class.forName(className).getConstructor(String.class).newInstance(name);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IOException("Cannot recreate player " + className, e);
+        }
+    }
+    
+    // Fails before anything is written when a player could not be recreated from its journal record
+    static void checkRecreatable(Player player) {
+        if (player.getClass() == ExpectimaxBotPlayer.class) return;
+        try {
+            player.getClass().getConstructor(String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot record player " + player.getClass().getName()
+                + ": it has no public (String) constructor");
+        }
+    }
+    
+    private static <T> T createStrategy(String className, Class<T> type) throws IOException {
+        try {
+            return type.cast(Class.forName(className).getConstructor().newInstance());
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IOException("Cannot recreate strategy " + className, e);
+        }
+    }
+    
+    public Game.Builder toBuilder() throws IOException {
+        return Game.builder()
+            .withBoard(board)
+            .withPlayers(players)
+            .withDiceService(new ReplayDiceService(diceCount, seed, rolls))
+            .withWinningStrategy(createStrategy(strategies[0], WinningStrategy.class))
+            .withStartStrategy(createStrategy(strategies[1], GameStartStrategy.class))
+            .withSpecialRule(createStrategy(strategies[2], SpecialRuleStrategy.class))
+            .withCollisionStrategy(createStrategy(strategies[3], CollisionStrategy.class))
+            .withTurnContinuationStrategy(createStrategy(strategies[4], TurnContinuationStrategy.class))
+            .withChainedResolution(chained)
+            .withDiceChoice(diceChoice)
+            .withEventListener(null);
+    }
+    
+    public Game replay() throws IOException {
+        return toBuilder().build();
+    }
+    
+    public Game fastForward(int turns) throws IOException {
+        Game game = replay();
+        game.playTurns(turns);
+        return game;
+    }
+    
+    public long getSeed() { return seed; }
+    public int getDiceCount() { return diceCount; }
+    public int getRollCount() { return rolls.length; }
+    public boolean isDiceChoice() { return diceChoice; }
+    public Board getBoard() { return board; }
+}
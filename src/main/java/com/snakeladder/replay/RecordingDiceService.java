@@ -0,0 +1,57 @@
+package com.snakeladder.replay;
+
+import com.snakeladder.services.DiceService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class RecordingDiceService extends DiceService {
+    private final RollJournalWriter journal;
+    private final int[] faces;
+    
+    public RecordingDiceService(int diceCount, RollJournalWriter journal) {
+        super(diceCount, journal.getSeed());
+        this.journal = journal;
+        this.faces = new int[diceCount];
+    }
+    
+    public int roll() {
+        int roll = super.roll();
+        try {
+            journal.append(roll);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record roll", e);
+        }
+        return roll;
+    }
+    
+    public void roll(int[] out, int offset, int length) {
+        super.roll(out, offset, length);
+        try {
+            for (int i = offset; i < offset + length; i++) {
+                journal.append(out[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record roll", e);
+        }
+    }
+    
+    public void rollIndividual(int[] out) {
+        super.rollIndividual(out);
+        try {
+            for (int i = 0; i < getDiceCount(); i++) {
+                journal.append(out[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record roll", e);
+        }
+    }
+    
+    // Draws the same dice as DiceService.contains, journalled one byte per die as rollIndividual does
+    public boolean contains(int number) {
+        rollIndividual(faces);
+        for (int face : faces) {
+            if (face == number) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.snakeladder.replay;
+
+import com.snakeladder.services.DiceService;
+
+public class ReplayDiceService extends DiceService {
+    private final byte[] rolls;
+    private int cursor = 0;
+    
+    public ReplayDiceService(int diceCount, long seed, byte[] rolls) {
+        super(diceCount, seed);
+        this.rolls = rolls;
+    }
+    
+    public int roll() {
+        if (cursor >= rolls.length) throw new IllegalStateException("Journal has no more rolls");
+        return rolls[cursor++] & RollJournal.MAX_ROLL;
+    }
+    
+    public void roll(int[] out, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > out.length) throw new IndexOutOfBoundsException();
+        if (length > rolls.length - cursor) throw new IllegalStateException("Journal has no more rolls");
+        for (int i = offset; i < offset + length; i++) {
+            out[i] = rolls[cursor++] & RollJournal.MAX_ROLL;
+        }
+    }
+    
+    public void rollIndividual(int[] out) {
+        int count = getDiceCount();
+        if (out.length < count) throw new IllegalArgumentException("Output holds fewer than " + count + " dice");
+        if (count > rolls.length - cursor) throw new IllegalStateException("Journal has no more rolls");
+        for (int i = 0; i < count; i++) {
+            out[i] = rolls[cursor++] & RollJournal.MAX_ROLL;
+        }
+    }
+    
+    // Reads one byte per die, as RecordingDiceService.contains journals them
+    public boolean contains(int number) {
+        int count = getDiceCount();
+        if (count > rolls.length - cursor) throw new IllegalStateException("Journal has no more rolls");
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            if ((rolls[cursor++] & RollJournal.MAX_ROLL) == number) found = true;
+        }
+        return found;
+    }
+    
+    public int getPosition() { return cursor; }
+    public int getRollCount() { return rolls.length; }
+    
+    // Rolls come from the journal, not from the seeded generator
+    public boolean isReplayable() { return false; }
+}
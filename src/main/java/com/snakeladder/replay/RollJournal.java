@@ -0,0 +1,11 @@
+package com.snakeladder.replay;
+
+final class RollJournal {
+    static final int MAGIC = 0x534C524A;
+    static final byte VERSION = 2;
+    static final int FLAG_CHAINED = 1;
+    static final int FLAG_DICE_CHOICE = 2;
+    static final int MAX_ROLL = 0xFF;
+    
+    private RollJournal() {}
+}
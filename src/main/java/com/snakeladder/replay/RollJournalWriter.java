@@ -0,0 +1,115 @@
+package com.snakeladder.replay;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.BoardEntity;
+import com.snakeladder.interfaces.Player;
+import com.snakeladder.models.Board;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+
+public class RollJournalWriter implements Closeable {
+    private static final int BATCH_SIZE = 4096;
+    
+    private final FileChannel channel;
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_SIZE);
+    private final long seed;
+    private long rollCount = 0;
+    
+    private RollJournalWriter(FileChannel channel, long seed) {
+        this.channel = channel;
+        this.seed = seed;
+    }
+    
+    public static RollJournalWriter create(Path path, long seed, Game config) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            RollJournalWriter writer = new RollJournalWriter(channel, seed);
+            writer.writeHeader(config);
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    private void writeHeader(Game config) throws IOException {
+        int diceCount = config.getDiceService().getDiceCount();
+        if (diceCount * 6 > RollJournal.MAX_ROLL) {
+            throw new IllegalArgumentException("Rolls of " + diceCount + " dice do not fit in one byte");
+        }
+        Board board = config.getBoard();
+        Collection<BoardEntity> entities = board.getEntities();
+        List<Player> players = config.getPlayers();
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(RollJournal.MAGIC);
+        out.writeByte(RollJournal.VERSION);
+        out.writeLong(seed);
+        out.writeByte(diceCount);
+        int flags = board.isChainResolution() ? RollJournal.FLAG_CHAINED : 0;
+        if (config.isDiceChoice()) flags |= RollJournal.FLAG_DICE_CHOICE;
+        out.writeByte(flags);
+        out.writeInt(board.getSize());
+        out.writeInt(board.getWidth());
+        out.writeInt(entities.size());
+        for (BoardEntity entity : entities) {
+            out.writeInt(entity.getStart());
+            out.writeInt(entity.getEnd());
+        }
+        out.writeShort(players.size());
+        for (Player player : players) {
+            out.writeUTF(player.getClass().getName());
+            out.writeUTF(player.getName());
+            out.writeInt(player.getPosition());
+            out.writeBoolean(player.hasStarted());
+            out.writeByte(player.getConsecutiveSixes());
+            out.writeBoolean(player.shouldSkipTurn());
+        }
+        out.writeUTF(config.getWinningStrategy().getClass().getName());
+        out.writeUTF(config.getStartStrategy().getClass().getName());
+        out.writeUTF(config.getSpecialRule().getClass().getName());
+        out.writeUTF(config.getCollisionStrategy().getClass().getName());
+        out.writeUTF(config.getTurnContinuationStrategy().getClass().getName());
+        out.flush();
+        
+        ByteBuffer header = ByteBuffer.wrap(bytes.toByteArray());
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+    
+    public void append(int roll) throws IOException {
+        if (roll < 0 || roll > RollJournal.MAX_ROLL) throw new IllegalArgumentException("Roll out of range: " + roll);
+        if (!batch.hasRemaining()) {
+            flush();
+        }
+        batch.put((byte) roll);
+        rollCount++;
+    }
+    
+    public void flush() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+    
+    public long getSeed() { return seed; }
+    public long getRollCount() { return rollCount; }
+    
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.snakeladder.services;
+
+import com.snakeladder.models.Dice;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+
+public final class DiceSampler {
+    // 6^24 outcomes still fit in a long
+    public static final int MAX_DICE = 24;
+    private static final DiceSampler[] cache = new DiceSampler[MAX_DICE + 1];
+    
+    private final int diceCount;
+    private final double[] probabilities;
+    private final double[] threshold;
+    private final int[] alias;
+    
+    private DiceSampler(int diceCount) {
+        this.diceCount = diceCount;
+        int outcomes = diceCount * (Dice.FACES - 1) + 1;
+        long[] ways = sumWays(diceCount);
+        double total = Math.pow(Dice.FACES, diceCount);
+        this.probabilities = new double[outcomes];
+        for (int i = 0; i < outcomes; i++) {
+            probabilities[i] = ways[i] / total;
+        }
+        this.threshold = new double[outcomes];
+        this.alias = new int[outcomes];
+        buildAliasTable();
+    }
+    
+    public static DiceSampler forDice(int diceCount) {
+        if (diceCount <= 0 || diceCount > MAX_DICE) {
+            throw new IllegalArgumentException("Dice count must be between 1 and " + MAX_DICE);
+        }
+        DiceSampler sampler = cache[diceCount];
+        if (sampler == null) {
+            sampler = new DiceSampler(diceCount);
+            cache[diceCount] = sampler;
+        }
+        return sampler;
+    }
+    
+    // Number of ways to reach each sum, indexed from the minimum sum (diceCount)
+    private static long[] sumWays(int diceCount) {
+        long[] ways = {1};
+        for (int d = 0; d < diceCount; d++) {
+            long[] next = new long[ways.length + Dice.FACES - 1];
+            for (int i = 0; i < ways.length; i++) {
+                for (int face = 0; face < Dice.FACES; face++) {
+                    next[i + face] += ways[i];
+                }
+            }
+            ways = next;
+        }
+        return ways;
+    }
+    
+    // Vose's alias method
+    private void buildAliasTable() {
+        int n = probabilities.length;
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        while (!large.isEmpty()) {
+            int i = large.pop();
+            threshold[i] = 1.0;
+            alias[i] = i;
+        }
+        while (!small.isEmpty()) {
+            int i = small.pop();
+            threshold[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+    
+    public int sample(RandomGenerator random) {
+        double u = random.nextDouble() * threshold.length;
+        int column = (int) u;
+        return (u - column < threshold[column] ? column : alias[column]) + diceCount;
+    }
+    
+    public void fill(RandomGenerator random, int[] out, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            out[i] = sample(random);
+        }
+    }
+    
+    public int getDiceCount() { return diceCount; }
+    public int getMinSum() { return diceCount; }
+    public int getMaxSum() { return diceCount * Dice.FACES; }
+    
+    public double probability(int sum) {
+        int index = sum - diceCount;
+        return index >= 0 && index < probabilities.length ? probabilities[index] : 0.0;
+    }
+}
@@ -1,29 +1,229 @@
 package com.snakeladder.services;
 
 import com.snakeladder.models.Dice;
+import java.nio.IntBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
+// Not thread-safe: each thread that plays games needs its own instance
 public class DiceService {
+    private static final RandomGeneratorFactory<RandomGenerator> DEFAULT_FACTORY =
+        RandomGeneratorFactory.of("L64X128MixRandom");
+    
+    private static final int DIRECT_ROLL_LIMIT = 2;
+    
+    // A 31-bit draw below 5 * 6^11 carries 11 independent, exactly uniform base-6 digits
+    private static final int DIGITS_PER_DRAW = 11;
+    private static final int DIGITS_LIMIT = 5 * 362_797_056;
+    
+    // Which calls were made since the last seed; a single kind can be replayed to rebuild the generator state
+    private static final byte HISTORY_NONE = 0;
+    private static final byte HISTORY_SUMS = 1;
+    private static final byte HISTORY_INDIVIDUAL = 2;
+    private static final byte HISTORY_OPAQUE = 3;
+    
     private final int diceCount;
-    private final Dice dice = Dice.INSTANCE;
+    private RandomGenerator random;
+    private final DiceSampler sampler;
+    private long seed;
+    private long rollsSinceSeed = 0;
+    private byte history;
+    private boolean mirrored = false;
+    // The first game built on this service; a second one marks it shared, and shared dice cannot be snapshotted
+    private Object owner;
+    private boolean shared = false;
     
     public DiceService(int diceCount) {
+        this(diceCount, ThreadLocalRandom.current().nextLong());
+    }
+    
+    public DiceService(int diceCount, long seed) {
+        this(diceCount, DEFAULT_FACTORY.create(seed));
+        this.seed = seed;
+        this.history = HISTORY_NONE;
+    }
+    
+    public DiceService(int diceCount, RandomGenerator random) {
+        if (diceCount <= 0) throw new IllegalArgumentException("Dice count must be positive");
+        if (random == null) throw new IllegalArgumentException("Random generator is required");
         this.diceCount = diceCount;
+        this.random = random;
+        // Beyond the sampler's limit each die is rolled and summed
+        this.sampler = diceCount > DIRECT_ROLL_LIMIT && diceCount <= DiceSampler.MAX_DICE
+            ? DiceSampler.forDice(diceCount) : null;
+        this.history = HISTORY_OPAQUE;
+    }
+    
+    // Restarts the service on a fresh seeded L64X128MixRandom, as new DiceService(count, seed) would
+    public void reseed(long seed) {
+        this.random = DEFAULT_FACTORY.create(seed);
+        this.seed = seed;
+        this.rollsSinceSeed = 0;
+        this.history = HISTORY_NONE;
+    }
+    
+    // Reseeds and replays the given number of roll() or rollIndividual() calls
+    public void restore(long seed, long rolls, boolean individual) {
+        if (rolls < 0) throw new IllegalArgumentException("Roll count cannot be negative");
+        reseed(seed);
+        int[] faces = new int[diceCount];
+        for (long i = 0; i < rolls; i++) {
+            if (individual) {
+                nextFaces(faces);
+            } else {
+                nextSum();
+            }
+        }
+        rollsSinceSeed = rolls;
+        history = rolls == 0 ? HISTORY_NONE : individual ? HISTORY_INDIVIDUAL : HISTORY_SUMS;
+    }
+    
+    // Mirrored dice show 7 - r wherever they would have shown r, drawing exactly the same random numbers,
+    // so a game replayed from the same seed with mirroring on is its antithetic twin
+    public void setMirrored(boolean mirrored) {
+        this.mirrored = mirrored;
+    }
+    
+    public boolean isMirrored() {
+        return mirrored;
+    }
+    
+    private void track(byte kind) {
+        if (history != kind) {
+            history = history == HISTORY_NONE ? kind : HISTORY_OPAQUE;
+        }
+        rollsSinceSeed++;
+    }
+    
+    public void attach(Object game) {
+        if (owner == null) {
+            owner = game;
+        } else if (owner != game) {
+            shared = true;
+        }
+    }
+    
+    public boolean isShared() { return shared; }
+    
+    public boolean isReplayable() {
+        return history != HISTORY_OPAQUE;
+    }
+    
+    public long getSeed() {
+        if (!isReplayable()) throw new IllegalStateException("Dice state cannot be reproduced from a seed");
+        return seed;
     }
     
+    public long getRollsSinceSeed() { return rollsSinceSeed; }
+    public boolean isRollingIndividually() { return history == HISTORY_INDIVIDUAL; }
+    
     public int roll() {
-        return dice.rollMultiple(diceCount);
+        track(HISTORY_SUMS);
+        int sum = nextSum();
+        return mirrored ? (Dice.FACES + 1) * diceCount - sum : sum;
+    }
+    
+    private int nextSum() {
+        if (sampler != null) {
+            return sampler.sample(random);
+        }
+        int sum = 0;
+        for (int i = 0; i < diceCount; i++) {
+            sum += Dice.roll(random);
+        }
+        return sum;
+    }
+    
+    public void roll(int[] out) {
+        roll(out, 0, out.length);
+    }
+    
+    public void roll(int[] out, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > out.length) throw new IndexOutOfBoundsException();
+        history = HISTORY_OPAQUE;
+        if (sampler != null) {
+            sampler.fill(random, out, offset, length);
+        } else {
+            fillPacked(out, offset, length);
+        }
+        if (mirrored) {
+            int total = (Dice.FACES + 1) * diceCount;
+            for (int i = offset; i < offset + length; i++) {
+                out[i] = total - out[i];
+            }
+        }
+    }
+    
+    private void fillPacked(int[] out, int offset, int length) {
+        int digits = 0;
+        int remaining = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int sum = diceCount;
+            for (int d = 0; d < diceCount; d++) {
+                if (remaining == 0) {
+                    digits = nextDigits();
+                    remaining = DIGITS_PER_DRAW;
+                }
+                sum += digits % Dice.FACES;
+                digits /= Dice.FACES;
+                remaining--;
+            }
+            out[i] = sum;
+        }
+    }
+    
+    private int nextDigits() {
+        int draw;
+        do {
+            draw = random.nextInt() >>> 1;
+        } while (draw >= DIGITS_LIMIT);
+        return draw;
+    }
+    
+    public void roll(IntBuffer out) {
+        if (out.hasArray()) {
+            int length = out.remaining();
+            roll(out.array(), out.arrayOffset() + out.position(), length);
+            out.position(out.position() + length);
+            return;
+        }
+        while (out.hasRemaining()) {
+            out.put(roll());
+        }
     }
     
     public int[] rollIndividual() {
-        return dice.rollIndividual(diceCount);
+        int[] results = new int[diceCount];
+        rollIndividual(results);
+        return results;
+    }
+    
+    public void rollIndividual(int[] out) {
+        if (out.length < diceCount) throw new IllegalArgumentException("Output holds fewer than " + diceCount + " dice");
+        track(HISTORY_INDIVIDUAL);
+        nextFaces(out);
+        if (mirrored) {
+            for (int i = 0; i < diceCount; i++) {
+                out[i] = Dice.FACES + 1 - out[i];
+            }
+        }
+    }
+    
+    private void nextFaces(int[] out) {
+        for (int i = 0; i < diceCount; i++) {
+            out[i] = Dice.roll(random);
+        }
     }
     
     public boolean contains(int number) {
-        int[] rolls = rollIndividual();
-        for (int roll : rolls) {
-            if (roll == number) return true;
+        history = HISTORY_OPAQUE;
+        int face = mirrored ? Dice.FACES + 1 - number : number;
+        boolean found = false;
+        for (int i = 0; i < diceCount; i++) {
+            if (Dice.roll(random) == face) found = true;
         }
-        return false;
+        return found;
     }
     
     public int getDiceCount() {
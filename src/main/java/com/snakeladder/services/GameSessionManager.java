@@ -0,0 +1,90 @@
+package com.snakeladder.services;
+
+import com.snakeladder.Game;
+import com.snakeladder.TurnOutcome;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameSessionManager implements AutoCloseable {
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    // DiceService keeps identity equality, so this maps each hosted instance to the session rolling it
+    private final ConcurrentHashMap<DiceService, Long> hostedDice = new ConcurrentHashMap<>();
+    private final ExecutorService[] shards;
+    private final AtomicLong nextId = new AtomicLong(1);
+    
+    public GameSessionManager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    // Each game is pinned to one single-threaded shard, so its turns never run concurrently
+    public GameSessionManager(int shardCount) {
+        if (shardCount <= 0) throw new IllegalArgumentException("Shard count must be positive");
+        this.shards = new ExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "game-session-" + i;
+            shards[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    // Games on different shards run concurrently, so a game whose DiceService another session rolls is rejected
+    public long open(Game game) {
+        if (game == null) throw new IllegalArgumentException("Game is required");
+        long id = nextId.getAndIncrement();
+        Long host = hostedDice.putIfAbsent(game.getDiceService(), id);
+        if (host != null) {
+            throw new IllegalArgumentException("Game rolls the same DiceService as session " + host);
+        }
+        sessions.put(id, new Session(game, shards[(int) (id % shards.length)]));
+        return id;
+    }
+    
+    public CompletableFuture<TurnOutcome> step(long sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session " + sessionId));
+        }
+        return CompletableFuture.supplyAsync(session.game::step, session.shard);
+    }
+    
+    public CompletableFuture<Game> remove(long sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session " + sessionId));
+        }
+        // Completes after any turns already queued for this game, and only then frees its dice for another session
+        return CompletableFuture.supplyAsync(() -> {
+            hostedDice.remove(session.game.getDiceService(), sessionId);
+            return session.game;
+        }, session.shard);
+    }
+    
+    public boolean contains(long sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+    
+    public int size() {
+        return sessions.size();
+    }
+    
+    public void close() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        sessions.clear();
+        hostedDice.clear();
+    }
+    
+    private static final class Session {
+        final Game game;
+        final Executor shard;
+        
+        Session(Game game, Executor shard) {
+            this.game = game;
+            this.shard = shard;
+        }
+    }
+}
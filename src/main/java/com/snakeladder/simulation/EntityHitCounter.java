@@ -0,0 +1,28 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.interfaces.BoardEntity;
+import com.snakeladder.interfaces.GameEventListener;
+import com.snakeladder.models.Board;
+import java.util.Arrays;
+
+// Counts hits per board entity, indexed in the compiled board's entity order (ascending start square)
+final class EntityHitCounter implements GameEventListener {
+    private final int[] starts;
+    private final int[] hits;
+    
+    EntityHitCounter(Board board) {
+        this.starts = board.getEntities().stream().mapToInt(BoardEntity::getStart).toArray();
+        this.hits = new int[starts.length];
+    }
+    
+    public void onEntity(int seat, int from, int to) {
+        int entity = Arrays.binarySearch(starts, from);
+        if (entity >= 0) hits[entity]++;
+    }
+    
+    int[] hits() { return hits; }
+    
+    void clear() {
+        Arrays.fill(hits, 0);
+    }
+}
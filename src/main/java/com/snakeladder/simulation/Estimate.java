@@ -0,0 +1,88 @@
+package com.snakeladder.simulation;
+
+// Sample mean of independent observations with its standard error. Under antithetic pairing each observation
+// is the mean of a game and its mirrored twin, so getObservations() is half of getGames(). Observations with a
+// game cut off at the turn limit are left out and counted by getUnfinishedObservations().
+public final class Estimate {
+    private final long games;
+    private final long observations;
+    private final long unfinished;
+    private final double mean;
+    private final double variance;
+    
+    Estimate(long games, long observations, long unfinished, double mean, double variance) {
+        this.games = games;
+        this.observations = observations;
+        this.unfinished = unfinished;
+        this.mean = mean;
+        this.variance = variance;
+    }
+    
+    public long getGames() { return games; }
+    public long getObservations() { return observations; }
+    public long getUnfinishedObservations() { return unfinished; }
+    public double getMean() { return mean; }
+    public double getVariance() { return variance; }
+    
+    public double getStandardError() {
+        return observations == 0 ? Double.NaN : Math.sqrt(variance / observations);
+    }
+    
+    public double getHalfWidth(double confidence) {
+        if (confidence <= 0 || confidence >= 1) throw new IllegalArgumentException("Confidence must be between 0 and 1");
+        return normalQuantile(0.5 + confidence / 2) * getStandardError();
+    }
+    
+    public double[] getConfidenceInterval(double confidence) {
+        double halfWidth = getHalfWidth(confidence);
+        return new double[] {mean - halfWidth, mean + halfWidth};
+    }
+    
+    // Acklam's rational approximation, accurate to about 1e-9 over (0, 1)
+    private static double normalQuantile(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+            6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+            3.754408661907416e+00};
+        double low = 0.02425;
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+            / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+    
+    public String toString() {
+        String text = String.format("%.4f +/- %.4f (95%%, %d games", mean, getHalfWidth(0.95), games);
+        return unfinished > 0 ? text + ", " + unfinished + " unfinished observations)" : text + ")";
+    }
+    
+    // Welford's running mean and variance
+    static final class Accumulator {
+        private long count = 0;
+        private double mean = 0;
+        private double m2 = 0;
+        
+        void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        
+        Estimate toEstimate(long games, long unfinished) {
+            return new Estimate(games, count, unfinished, count == 0 ? Double.NaN : mean, count < 2 ? Double.NaN : m2 / (count - 1));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.snakeladder.simulation;
+
+public final class EstimateComparison {
+    private final Estimate first;
+    private final Estimate second;
+    private final Estimate difference;
+    
+    EstimateComparison(Estimate first, Estimate second, Estimate difference) {
+        this.first = first;
+        this.second = second;
+        this.difference = difference;
+    }
+    
+    public Estimate getFirst() { return first; }
+    public Estimate getSecond() { return second; }
+    
+    // First minus second, estimated from paired observations
+    public Estimate getDifference() { return difference; }
+    
+    // Variance of the paired difference relative to what two independent runs would give; values below 1
+    // are the saving from common random numbers, e.g. 0.2 means the same precision from a fifth of the games
+    public double getVarianceRatio() {
+        return difference.getVariance() / (first.getVariance() + second.getVariance());
+    }
+    
+    public String toString() {
+        return "EstimateComparison[first " + first + ", second " + second + ", difference " + difference
+            + String.format(", variance ratio %.3f]", getVarianceRatio());
+    }
+}
@@ -0,0 +1,6 @@
+package com.snakeladder.simulation;
+
+interface LaneKernel {
+    // Plays one turn in every active lane, lists the lanes whose game finished and returns their count
+    int advance(LaneState lanes);
+}
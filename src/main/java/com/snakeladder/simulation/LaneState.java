@@ -0,0 +1,129 @@
+package com.snakeladder.simulation;
+
+import java.util.Arrays;
+
+final class LaneState {
+    final int lanes;
+    final int seats;
+    final int boardSize;
+    final int[] jumps;
+    final boolean exactWin;
+    final boolean sixToStart;
+    final boolean restartOnSixes;
+    final boolean killCollision;
+    final boolean rollAgainOnSix;
+    
+    // Per-seat state is laid out seat-major: index = seat * lanes + lane
+    final int[] positions;
+    final int[] started;
+    final int[] sixes;
+    final int[] skip;
+    
+    final int[] current;
+    final int[] turns;
+    final int[] snakeHits;
+    final int[] ladderHits;
+    final int[] winner;
+    final int[] active;
+    final int[] rolls;
+    final int[] finished;
+    
+    // Running games always occupy lanes [0, width)
+    int width;
+    
+    private final int[] initialPositions;
+    private final int[] initialStarted;
+    private final int[] initialSixes;
+    private final int[] initialSkip;
+    
+    LaneState(LockstepSimulator.Rules rules, int lanes) {
+        this.lanes = lanes;
+        this.seats = rules.initialPositions.length;
+        this.boardSize = rules.boardSize;
+        this.jumps = rules.jumps;
+        this.exactWin = rules.exactWin;
+        this.sixToStart = rules.sixToStart;
+        this.restartOnSixes = rules.restartOnSixes;
+        this.killCollision = rules.killCollision;
+        this.rollAgainOnSix = rules.rollAgainOnSix;
+        this.initialPositions = rules.initialPositions;
+        this.initialStarted = rules.initialStarted;
+        this.initialSixes = rules.initialSixes;
+        this.initialSkip = rules.initialSkip;
+        this.positions = new int[seats * lanes];
+        this.started = new int[seats * lanes];
+        this.sixes = new int[seats * lanes];
+        this.skip = new int[seats * lanes];
+        this.current = new int[lanes];
+        this.turns = new int[lanes];
+        this.snakeHits = new int[lanes];
+        this.ladderHits = new int[lanes];
+        this.winner = new int[lanes];
+        this.active = new int[lanes];
+        this.rolls = new int[lanes];
+        this.finished = new int[lanes];
+        Arrays.fill(winner, -1);
+    }
+    
+    void startGame(int lane) {
+        for (int seat = 0; seat < seats; seat++) {
+            int index = seat * lanes + lane;
+            positions[index] = initialPositions[seat];
+            started[index] = initialStarted[seat];
+            sixes[index] = initialSixes[seat];
+            skip[index] = initialSkip[seat];
+        }
+        current[lane] = 0;
+        turns[lane] = 0;
+        snakeHits[lane] = 0;
+        ladderHits[lane] = 0;
+        winner[lane] = -1;
+        active[lane] = 1;
+    }
+    
+    void stop(int lane) {
+        active[lane] = 0;
+        winner[lane] = -1;
+    }
+    
+    // Appends running lanes that have played the turn limit without a winner to the finished list
+    int cutOff(int turnLimit, int finished) {
+        for (int lane = 0; lane < width; lane++) {
+            if (active[lane] != 0 && winner[lane] < 0 && turns[lane] >= turnLimit) {
+                this.finished[finished++] = lane;
+            }
+        }
+        return finished;
+    }
+    
+    // Moves running games down into stopped lanes so that kernels and dice only cover live lanes
+    void compact() {
+        int lane = 0;
+        while (lane < width) {
+            if (active[lane] != 0) {
+                lane++;
+            } else if (active[width - 1] == 0) {
+                width--;
+            } else {
+                move(width - 1, lane);
+                width--;
+            }
+        }
+    }
+    
+    private void move(int from, int to) {
+        for (int seat = 0, offset = 0; seat < seats; seat++, offset += lanes) {
+            positions[offset + to] = positions[offset + from];
+            started[offset + to] = started[offset + from];
+            sixes[offset + to] = sixes[offset + from];
+            skip[offset + to] = skip[offset + from];
+        }
+        current[to] = current[from];
+        turns[to] = turns[from];
+        snakeHits[to] = snakeHits[from];
+        ladderHits[to] = ladderHits[from];
+        winner[to] = winner[from];
+        active[to] = active[from];
+        active[from] = 0;
+    }
+}
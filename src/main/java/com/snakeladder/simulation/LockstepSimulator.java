@@ -0,0 +1,158 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.Player;
+import com.snakeladder.services.DiceService;
+import com.snakeladder.strategies.*;
+import java.util.List;
+
+public class LockstepSimulator {
+    public static final int DEFAULT_LANES = 1024;
+    private static final int LANE_ALIGNMENT = 64;
+    
+    private final Rules rules;
+    private final DiceService diceService;
+    private final int seats;
+    private final int lanes;
+    private final boolean vectorized;
+    private int turnLimit = SimulationEngine.DEFAULT_TURN_LIMIT;
+    
+    public LockstepSimulator(Game.Builder builder) {
+        this(builder, DEFAULT_LANES, vectorSupported());
+    }
+    
+    public LockstepSimulator(Game.Builder builder, int lanes, boolean vectorized) {
+        if (lanes <= 0 || lanes % LANE_ALIGNMENT != 0) {
+            throw new IllegalArgumentException("Lane count must be a positive multiple of " + LANE_ALIGNMENT);
+        }
+        if (vectorized && !vectorSupported()) {
+            throw new IllegalStateException("jdk.incubator.vector is not available; add --add-modules jdk.incubator.vector");
+        }
+        Game probe = builder.copy().withEventListener(null).build();
+        this.rules = new Rules(probe);
+        this.diceService = probe.getDiceService();
+        this.seats = probe.getPlayerCount();
+        this.lanes = lanes;
+        this.vectorized = vectorized;
+    }
+    
+    public static boolean vectorSupported() {
+        return VectorSupport.AVAILABLE;
+    }
+    
+    // Games still running after this many turns are counted as unfinished
+    public LockstepSimulator withTurnLimit(int turnLimit) {
+        if (turnLimit <= 0) throw new IllegalArgumentException("Turn limit must be positive");
+        this.turnLimit = turnLimit;
+        return this;
+    }
+    
+    public boolean isVectorized() { return vectorized; }
+    public int getLanes() { return lanes; }
+    
+    public SimulationResult run(long games) {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        SimulationResult result = new SimulationResult(seats);
+        LaneState state = new LaneState(rules, lanes);
+        LaneKernel kernel = vectorized ? VectorLaneKernel.create() : new ScalarLaneKernel();
+        
+        long started = 0;
+        for (int lane = 0; lane < lanes && started < games; lane++, started++) {
+            state.startGame(lane);
+        }
+        state.width = (int) started;
+        long steps = 0;
+        while (state.width > 0) {
+            diceService.roll(state.rolls, 0, state.width);
+            int finished = kernel.advance(state);
+            // Every live lane plays one turn per step, so no lane can reach the limit any sooner
+            if (++steps >= turnLimit) {
+                finished = state.cutOff(turnLimit, finished);
+            }
+            boolean stopped = false;
+            for (int i = 0; i < finished; i++) {
+                int lane = state.finished[i];
+                if (state.winner[lane] < 0) {
+                    result.recordUnfinished();
+                } else {
+                    result.record(state.winner[lane], state.turns[lane], state.snakeHits[lane], state.ladderHits[lane]);
+                }
+                if (started < games) {
+                    state.startGame(lane);
+                    started++;
+                } else {
+                    state.stop(lane);
+                    stopped = true;
+                }
+            }
+            if (stopped) state.compact();
+        }
+        return result;
+    }
+    
+    static final class Rules {
+        final int boardSize;
+        final int[] jumps;
+        final boolean exactWin;
+        final boolean sixToStart;
+        final boolean restartOnSixes;
+        final boolean killCollision;
+        final boolean rollAgainOnSix;
+        final int[] initialPositions;
+        final int[] initialStarted;
+        final int[] initialSixes;
+        final int[] initialSkip;
+        
+        Rules(Game game) {
+            if (game.isDiceChoice()) throw new IllegalArgumentException("Lockstep simulation does not support dice choice");
+            this.boardSize = game.getBoard().getSize();
+            this.jumps = game.getBoard().getJumpTable();
+            for (int destination : jumps) {
+                if (destination < 0 || destination > boardSize) {
+                    throw new IllegalArgumentException("Board entity leads off the board: " + destination);
+                }
+            }
+            this.exactWin = builtIn(game.getWinningStrategy(), ExactWinStrategy.class, OvershootWinStrategy.class);
+            this.sixToStart = builtIn(game.getStartStrategy(), SixToStartStrategy.class, NormalStartStrategy.class);
+            this.restartOnSixes = builtIn(game.getSpecialRule(), RestartOnThreeSixesStrategy.class, SkipTurnOnThreeSixesStrategy.class);
+            this.killCollision = builtIn(game.getCollisionStrategy(), KillCollisionStrategy.class, NoCollisionStrategy.class);
+            this.rollAgainOnSix = builtIn(game.getTurnContinuationStrategy(), RollAgainOnSixStrategy.class, NoExtraTurnsStrategy.class);
+            
+            List<Player> players = game.getPlayers();
+            this.initialPositions = new int[players.size()];
+            this.initialStarted = new int[players.size()];
+            this.initialSixes = new int[players.size()];
+            this.initialSkip = new int[players.size()];
+            for (int seat = 0; seat < players.size(); seat++) {
+                Player player = players.get(seat);
+                if (player.getPosition() < 0 || player.getPosition() > boardSize) {
+                    throw new IllegalArgumentException("Player " + player.getName() + " starts off the board");
+                }
+                initialPositions[seat] = player.getPosition();
+                initialStarted[seat] = player.hasStarted() ? 1 : 0;
+                initialSixes[seat] = player.getConsecutiveSixes();
+                initialSkip[seat] = player.shouldSkipTurn() ? 1 : 0;
+            }
+        }
+        
+        // True for the first built-in strategy, false for the second; anything else cannot run in lanes
+        private static boolean builtIn(Object strategy, Class<?> whenTrue, Class<?> whenFalse) {
+            if (strategy.getClass() == whenTrue) return true;
+            if (strategy.getClass() == whenFalse) return false;
+            throw new IllegalArgumentException("Lockstep simulation does not support " + strategy.getClass().getName());
+        }
+    }
+    
+    private static final class VectorSupport {
+        static final boolean AVAILABLE = detect();
+        
+        private static boolean detect() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+            try {
+                return VectorLaneKernel.width() > 1;
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+    }
+}
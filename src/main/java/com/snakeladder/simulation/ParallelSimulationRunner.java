@@ -0,0 +1,87 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.services.DiceService;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class ParallelSimulationRunner {
+    private static final int DEFAULT_CHUNK_SIZE = 10_000;
+    
+    private final Game.Builder builder;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private int turnLimit = SimulationEngine.DEFAULT_TURN_LIMIT;
+    
+    public ParallelSimulationRunner(Game.Builder builder) {
+        this(builder, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+    
+    public ParallelSimulationRunner(Game.Builder builder, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive");
+        this.builder = builder.copy().withEventListener(null).withSharedBoard(true);
+        this.builder.withBoard(this.builder.build().getBoard());
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+    
+    // Games still running after this many turns are counted as unfinished
+    public ParallelSimulationRunner withTurnLimit(int turnLimit) {
+        if (turnLimit <= 0) throw new IllegalArgumentException("Turn limit must be positive");
+        this.turnLimit = turnLimit;
+        return this;
+    }
+    
+    public SimulationResult run(long games, long seed) {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        Game probe = builder.build();
+        int chunks = (int) ((games + chunkSize - 1) / chunkSize);
+        
+        // Streams are split up front in chunk order so results do not depend on scheduling
+        SplittableRandom master = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            streams[i] = master.split();
+        }
+        
+        SimulationResult result = new SimulationResult(probe.getPlayerCount());
+        if (chunks > 0) {
+            int diceCount = probe.getDiceService().getDiceCount();
+            result.merge(pool.invoke(new ChunkTask(streams, diceCount, games, 0, chunks)));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("serial")
+    private class ChunkTask extends RecursiveTask<SimulationResult> {
+        private final SplittableRandom[] streams;
+        private final int diceCount;
+        private final long games;
+        private final int from, to;
+        
+        ChunkTask(SplittableRandom[] streams, int diceCount, long games, int from, int to) {
+            this.streams = streams;
+            this.diceCount = diceCount;
+            this.games = games;
+            this.from = from;
+            this.to = to;
+        }
+        
+        protected SimulationResult compute() {
+            if (to - from == 1) {
+                long count = Math.min(chunkSize, games - (long) from * chunkSize);
+                Game.Builder local = builder.copy()
+                    .withDiceService(new DiceService(diceCount, streams[from]));
+                return new SimulationEngine(local).withTurnLimit(turnLimit).run(count);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(streams, diceCount, games, from, mid);
+            left.fork();
+            SimulationResult right = new ChunkTask(streams, diceCount, games, mid, to).compute();
+            SimulationResult merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.strategies.*;
+
+// Layout shared by ResultFileWriter and ResultFileReader. The header is followed by row groups of
+// rowGroupSize games (the last may be shorter), each holding one column after another:
+// seeds (long), turns (int), one hit-count column per entity (char, saturating) and winners (byte).
+final class ResultFile {
+    static final int MAGIC = 0x534C5246;
+    static final byte VERSION = 2;
+    static final int COUNT_OFFSET = 8;
+    static final int DEFAULT_ROW_GROUP = 65_536;
+    
+    static final int FLAG_EXACT_WIN = 1;
+    static final int FLAG_SIX_TO_START = 1 << 1;
+    static final int FLAG_RESTART_ON_SIXES = 1 << 2;
+    static final int FLAG_KILL_COLLISION = 1 << 3;
+    static final int FLAG_ROLL_AGAIN_ON_SIX = 1 << 4;
+    static final int FLAG_CHAINED_BOARD = 1 << 5;
+    
+    private ResultFile() {}
+    
+    static int ruleFlags(Game config) {
+        int flags = 0;
+        if (config.getWinningStrategy() instanceof ExactWinStrategy) flags |= FLAG_EXACT_WIN;
+        if (config.getStartStrategy() instanceof SixToStartStrategy) flags |= FLAG_SIX_TO_START;
+        if (config.getSpecialRule() instanceof RestartOnThreeSixesStrategy) flags |= FLAG_RESTART_ON_SIXES;
+        if (config.getCollisionStrategy() instanceof KillCollisionStrategy) flags |= FLAG_KILL_COLLISION;
+        if (config.getTurnContinuationStrategy() instanceof RollAgainOnSixStrategy) flags |= FLAG_ROLL_AGAIN_ON_SIX;
+        if (config.getBoard().isChainResolution()) flags |= FLAG_CHAINED_BOARD;
+        return flags;
+    }
+    
+    static int rowBytes(int entityCount) {
+        return Long.BYTES + Integer.BYTES + entityCount * Character.BYTES + 1;
+    }
+    
+    static long groupBytes(int rows, int entityCount) {
+        return align((long) rows * rowBytes(entityCount));
+    }
+    
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,208 @@
+package com.snakeladder.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class ResultFileReader implements Closeable {
+    private final FileChannel channel;
+    private final int ruleFlags;
+    private final int seats;
+    private final long gameCount;
+    private final long baseSeed;
+    private final int rowGroupSize;
+    private final int boardSize;
+    private final int boardWidth;
+    private final int diceCount;
+    private final int[] entityStarts;
+    private final int[] entityEnds;
+    private final String[] strategies;
+    private final long dataOffset;
+    
+    // Row groups are mapped one at a time, so files far larger than 2 GB can be scanned
+    private long mappedGroup = -1;
+    private MappedByteBuffer mapped;
+    
+    private ResultFileReader(FileChannel channel, ByteBuffer header) throws IOException {
+        this.channel = channel;
+        if (header.getInt() != ResultFile.MAGIC) throw new IOException("Not a simulation result file");
+        byte version = header.get();
+        if (version != ResultFile.VERSION) throw new IOException("Unsupported result file version " + version);
+        this.ruleFlags = header.get() & 0xFF;
+        this.seats = header.getShort();
+        this.gameCount = header.getLong();
+        this.baseSeed = header.getLong();
+        this.rowGroupSize = header.getInt();
+        this.boardSize = header.getInt();
+        this.boardWidth = header.getInt();
+        this.diceCount = header.getInt();
+        int entityCount = header.getInt();
+        this.entityStarts = new int[entityCount];
+        this.entityEnds = new int[entityCount];
+        for (int entity = 0; entity < entityCount; entity++) {
+            entityStarts[entity] = header.getInt();
+            entityEnds[entity] = header.getInt();
+        }
+        this.strategies = new String[5];
+        for (int i = 0; i < strategies.length; i++) {
+            byte[] utf = new byte[header.getShort() & 0xFFFF];
+            header.get(utf);
+            strategies[i] = new String(utf, StandardCharsets.UTF_8);
+        }
+        this.dataOffset = ResultFile.align(header.position());
+        long expected = dataOffset + (gameCount / rowGroupSize) * ResultFile.groupBytes(rowGroupSize, entityCount)
+            + ResultFile.groupBytes((int) (gameCount % rowGroupSize), entityCount);
+        if (channel.size() < expected) throw new IOException("Truncated result file");
+    }
+    
+    public static ResultFileReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            int probe = (int) Math.min(channel.size(), Integer.MAX_VALUE);
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, probe);
+            return new ResultFileReader(channel, header);
+        } catch (BufferUnderflowException e) {
+            channel.close();
+            throw new IOException("Truncated result file header: " + path, e);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    public long getGameCount() { return gameCount; }
+    public int getSeatCount() { return seats; }
+    public long getBaseSeed() { return baseSeed; }
+    public int getBoardSize() { return boardSize; }
+    public int getBoardWidth() { return boardWidth; }
+    public int getDiceCount() { return diceCount; }
+    public int getEntityCount() { return entityStarts.length; }
+    public int getEntityStart(int entity) { return entityStarts[entity]; }
+    public int getEntityEnd(int entity) { return entityEnds[entity]; }
+    public int getRuleFlags() { return ruleFlags; }
+    public boolean isExactWin() { return (ruleFlags & ResultFile.FLAG_EXACT_WIN) != 0; }
+    public boolean isSixToStart() { return (ruleFlags & ResultFile.FLAG_SIX_TO_START) != 0; }
+    public boolean isRestartOnSixes() { return (ruleFlags & ResultFile.FLAG_RESTART_ON_SIXES) != 0; }
+    public boolean isKillCollision() { return (ruleFlags & ResultFile.FLAG_KILL_COLLISION) != 0; }
+    public boolean isRollAgainOnSix() { return (ruleFlags & ResultFile.FLAG_ROLL_AGAIN_ON_SIX) != 0; }
+    public boolean isChainedBoard() { return (ruleFlags & ResultFile.FLAG_CHAINED_BOARD) != 0; }
+    public String getWinningStrategy() { return strategies[0]; }
+    public String getStartStrategy() { return strategies[1]; }
+    public String getSpecialRule() { return strategies[2]; }
+    public String getCollisionStrategy() { return strategies[3]; }
+    public String getTurnContinuationStrategy() { return strategies[4]; }
+    
+    public long getSeed(long game) {
+        int row = locate(game);
+        return mapped.getLong(row * Long.BYTES);
+    }
+    
+    public int getTurns(long game) {
+        int row = locate(game);
+        return mapped.getInt(rowsIn(mappedGroup) * Long.BYTES + row * Integer.BYTES);
+    }
+    
+    public int getEntityHits(long game, int entity) {
+        if (entity < 0 || entity >= entityStarts.length) throw new IndexOutOfBoundsException("Entity " + entity);
+        int row = locate(game);
+        return mapped.getChar(hitsOffset(rowsIn(mappedGroup), entity) + row * Character.BYTES);
+    }
+    
+    public int getWinner(long game) {
+        int row = locate(game);
+        return mapped.get(hitsOffset(rowsIn(mappedGroup), entityStarts.length) + row);
+    }
+    
+    // Aggregates every game column by column, one mapped row group at a time
+    public SimulationResult summarize() throws IOException {
+        SimulationResult result = new SimulationResult(seats);
+        int[] turns = new int[rowGroupSize];
+        int[] snakes = new int[rowGroupSize];
+        int[] ladders = new int[rowGroupSize];
+        byte[] winners = new byte[rowGroupSize];
+        long groups = (gameCount + rowGroupSize - 1) / rowGroupSize;
+        for (long group = 0; group < groups; group++) {
+            map(group);
+            int rows = rowsIn(group);
+            ByteBuffer view = mapped.duplicate();
+            view.position(rows * Long.BYTES);
+            view.asIntBuffer().get(turns, 0, rows);
+            Arrays.fill(snakes, 0, rows, 0);
+            Arrays.fill(ladders, 0, rows, 0);
+            for (int entity = 0; entity < entityStarts.length; entity++) {
+                int[] target = entityEnds[entity] < entityStarts[entity] ? snakes : ladders;
+                int offset = hitsOffset(rows, entity);
+                for (int row = 0; row < rows; row++) {
+                    target[row] += mapped.getChar(offset + row * Character.BYTES);
+                }
+            }
+            view.position(hitsOffset(rows, entityStarts.length));
+            view.get(winners, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                // Rows without a winner are games cut off at the turn limit
+                if (winners[row] < 0) {
+                    result.recordUnfinished();
+                } else {
+                    result.record(winners[row], turns[row], snakes[row], ladders[row]);
+                }
+            }
+        }
+        return result;
+    }
+    
+    public long[] getEntityHitTotals() throws IOException {
+        long[] totals = new long[entityStarts.length];
+        long groups = (gameCount + rowGroupSize - 1) / rowGroupSize;
+        for (long group = 0; group < groups; group++) {
+            map(group);
+            int rows = rowsIn(group);
+            for (int entity = 0; entity < totals.length; entity++) {
+                int offset = hitsOffset(rows, entity);
+                long sum = 0;
+                for (int row = 0; row < rows; row++) {
+                    sum += mapped.getChar(offset + row * Character.BYTES);
+                }
+                totals[entity] += sum;
+            }
+        }
+        return totals;
+    }
+    
+    private int locate(long game) {
+        if (game < 0 || game >= gameCount) throw new IndexOutOfBoundsException("Game " + game + " of " + gameCount);
+        try {
+            map(game / rowGroupSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return (int) (game % rowGroupSize);
+    }
+    
+    private void map(long group) throws IOException {
+        if (group == mappedGroup) return;
+        long offset = dataOffset + group * ResultFile.groupBytes(rowGroupSize, entityStarts.length);
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, ResultFile.groupBytes(rowsIn(group), entityStarts.length));
+        mappedGroup = group;
+    }
+    
+    private int rowsIn(long group) {
+        return (int) Math.min(rowGroupSize, gameCount - group * rowGroupSize);
+    }
+    
+    private int hitsOffset(int rows, int entity) {
+        return rows * (Long.BYTES + Integer.BYTES) + entity * rows * Character.BYTES;
+    }
+    
+    public void close() throws IOException {
+        mapped = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,156 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.BoardEntity;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ResultFileWriter implements Closeable {
+    private final FileChannel channel;
+    private final int seats;
+    private final int entityCount;
+    private final int rowGroupSize;
+    private final ByteBuffer group;
+    
+    // One row group is staged column by column, so heap use does not grow with the number of games
+    private final long[] seeds;
+    private final int[] turns;
+    private final char[][] hits;
+    private final byte[] winners;
+    private int rows = 0;
+    private long gameCount = 0;
+    
+    private ResultFileWriter(FileChannel channel, int seats, int entityCount, int rowGroupSize) {
+        this.channel = channel;
+        this.seats = seats;
+        this.entityCount = entityCount;
+        this.rowGroupSize = rowGroupSize;
+        this.group = ByteBuffer.allocateDirect((int) ResultFile.groupBytes(rowGroupSize, entityCount));
+        this.seeds = new long[rowGroupSize];
+        this.turns = new int[rowGroupSize];
+        this.hits = new char[entityCount][rowGroupSize];
+        this.winners = new byte[rowGroupSize];
+    }
+    
+    public static ResultFileWriter create(Path path, Game.Builder config, long baseSeed) throws IOException {
+        return create(path, config, baseSeed, ResultFile.DEFAULT_ROW_GROUP);
+    }
+    
+    public static ResultFileWriter create(Path path, Game.Builder config, long baseSeed, int rowGroupSize) throws IOException {
+        if (rowGroupSize <= 0) throw new IllegalArgumentException("Row group size must be positive");
+        Game probe = config.copy().withEventListener(null).build();
+        if (probe.getPlayerCount() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Result files hold at most " + Byte.MAX_VALUE + " seats");
+        }
+        int entityCount = probe.getBoard().getEntities().size();
+        if (ResultFile.groupBytes(rowGroupSize, entityCount) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Row group of " + rowGroupSize + " games is too large");
+        }
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ResultFileWriter writer = new ResultFileWriter(channel, probe.getPlayerCount(), entityCount, rowGroupSize);
+            writer.writeHeader(probe, baseSeed);
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    private void writeHeader(Game config, long baseSeed) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(ResultFile.MAGIC);
+        out.writeByte(ResultFile.VERSION);
+        out.writeByte(ResultFile.ruleFlags(config));
+        out.writeShort(seats);
+        out.writeLong(0L);
+        out.writeLong(baseSeed);
+        out.writeInt(rowGroupSize);
+        out.writeInt(config.getBoard().getSize());
+        out.writeInt(config.getBoard().getWidth());
+        out.writeInt(config.getDiceService().getDiceCount());
+        out.writeInt(entityCount);
+        for (BoardEntity entity : config.getBoard().getEntities()) {
+            out.writeInt(entity.getStart());
+            out.writeInt(entity.getEnd());
+        }
+        out.writeUTF(config.getWinningStrategy().getClass().getName());
+        out.writeUTF(config.getStartStrategy().getClass().getName());
+        out.writeUTF(config.getSpecialRule().getClass().getName());
+        out.writeUTF(config.getCollisionStrategy().getClass().getName());
+        out.writeUTF(config.getTurnContinuationStrategy().getClass().getName());
+        while (bytes.size() % 8 != 0) {
+            out.writeByte(0);
+        }
+        out.flush();
+        writeFully(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+    
+    public void append(long seed, int winnerSeat, int turnCount, int[] entityHits) throws IOException {
+        if (winnerSeat < -1 || winnerSeat >= seats) throw new IllegalArgumentException("Invalid winner seat " + winnerSeat);
+        if (entityHits.length != entityCount) {
+            throw new IllegalArgumentException("Expected hits for " + entityCount + " entities, got " + entityHits.length);
+        }
+        seeds[rows] = seed;
+        turns[rows] = turnCount;
+        for (int entity = 0; entity < entityCount; entity++) {
+            hits[entity][rows] = (char) Math.min(entityHits[entity], Character.MAX_VALUE);
+        }
+        winners[rows] = (byte) winnerSeat;
+        rows++;
+        gameCount++;
+        if (rows == rowGroupSize) {
+            flushGroup();
+        }
+    }
+    
+    private void flushGroup() throws IOException {
+        if (rows == 0) return;
+        group.clear();
+        group.asLongBuffer().put(seeds, 0, rows);
+        group.position(group.position() + rows * Long.BYTES);
+        group.asIntBuffer().put(turns, 0, rows);
+        group.position(group.position() + rows * Integer.BYTES);
+        for (int entity = 0; entity < entityCount; entity++) {
+            group.asCharBuffer().put(hits[entity], 0, rows);
+            group.position(group.position() + rows * Character.BYTES);
+        }
+        group.put(winners, 0, rows);
+        group.position((int) ResultFile.groupBytes(rows, entityCount));
+        group.flip();
+        writeFully(group);
+        rows = 0;
+        writeCount();
+    }
+    
+    // The header counts only whole row groups on disk, so a crashed run leaves a readable prefix
+    private void writeCount() throws IOException {
+        ByteBuffer count = ByteBuffer.allocate(Long.BYTES).putLong(0, gameCount);
+        while (count.hasRemaining()) {
+            channel.write(count, ResultFile.COUNT_OFFSET + count.position());
+        }
+    }
+    
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    public int getSeatCount() { return seats; }
+    public int getEntityCount() { return entityCount; }
+    public long getGameCount() { return gameCount; }
+    
+    public void close() throws IOException {
+        try {
+            flushGroup();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.models.Board;
+import com.snakeladder.models.BotPlayer;
+import com.snakeladder.services.DiceService;
+import com.snakeladder.strategies.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Simulates every combination of the built-in strategies on every board and dice count. Each cell is cut into
+// slices of games and the slices of all cells are interleaved round-robin into one fork/join job, so every
+// cell advances together and idle workers steal whatever slices remain, whichever cells they belong to.
+public class RuleSpaceSweep {
+    public static final int RULE_MIXES = 32;
+    private static final int DEFAULT_SLICE_SIZE = 10_000;
+    
+    private final List<Board> boards = new ArrayList<>();
+    private int[] diceCounts = {1};
+    private int players = 2;
+    private long gamesPerCell = 100_000;
+    private long seed = 0L;
+    private int sliceSize = DEFAULT_SLICE_SIZE;
+    private int turnLimit = SimulationEngine.DEFAULT_TURN_LIMIT;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    
+    public static RuleSpaceSweep builder() {
+        return new RuleSpaceSweep();
+    }
+    
+    public RuleSpaceSweep withBoard(Board board) {
+        boards.add(board);
+        return this;
+    }
+    
+    public RuleSpaceSweep withBoards(Collection<Board> boards) {
+        this.boards.addAll(boards);
+        return this;
+    }
+    
+    public RuleSpaceSweep withDiceCounts(int... diceCounts) {
+        this.diceCounts = diceCounts.clone();
+        return this;
+    }
+    
+    public RuleSpaceSweep withPlayers(int players) {
+        this.players = players;
+        return this;
+    }
+    
+    public RuleSpaceSweep withGamesPerCell(long gamesPerCell) {
+        this.gamesPerCell = gamesPerCell;
+        return this;
+    }
+    
+    public RuleSpaceSweep withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+    
+    public RuleSpaceSweep withSliceSize(int sliceSize) {
+        this.sliceSize = sliceSize;
+        return this;
+    }
+    
+    // Games still running after this many turns are counted as unfinished; some mixes cannot always
+    // finish, e.g. exact win with two dice from the square before the last
+    public RuleSpaceSweep withTurnLimit(int turnLimit) {
+        this.turnLimit = turnLimit;
+        return this;
+    }
+    
+    public RuleSpaceSweep withPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+    
+    // Bits of a rule mix select the second built-in of each strategy: 1 overshoot win, 2 six to start,
+    // 4 skip turn on three sixes, 8 kill collision, 16 roll again on six
+    public static Game.Builder configure(Game.Builder builder, int mix) {
+        if (mix < 0 || mix >= RULE_MIXES) throw new IllegalArgumentException("Rule mix must be between 0 and " + (RULE_MIXES - 1));
+        return builder
+            .withWinningStrategy((mix & 1) == 0 ? new ExactWinStrategy() : new OvershootWinStrategy())
+            .withStartStrategy((mix & 2) == 0 ? new NormalStartStrategy() : new SixToStartStrategy())
+            .withSpecialRule((mix & 4) == 0 ? new RestartOnThreeSixesStrategy() : new SkipTurnOnThreeSixesStrategy())
+            .withCollisionStrategy((mix & 8) == 0 ? new NoCollisionStrategy() : new KillCollisionStrategy())
+            .withTurnContinuationStrategy((mix & 16) == 0 ? new NoExtraTurnsStrategy() : new RollAgainOnSixStrategy());
+    }
+    
+    public SweepResult run() {
+        validate();
+        List<SweepResult.Cell> cells = new ArrayList<>();
+        List<Game.Builder> builders = new ArrayList<>();
+        for (int boardIndex = 0; boardIndex < boards.size(); boardIndex++) {
+            Board board = boards.get(boardIndex).compile();
+            for (int diceCount : diceCounts) {
+                for (int mix = 0; mix < RULE_MIXES; mix++) {
+                    Game.Builder builder = configure(Game.builder().withBoard(board), mix)
+                        .withDiceService(new DiceService(diceCount, seed))
+                        .withEventListener(null);
+                    for (int seat = 1; seat <= players; seat++) {
+                        builder.addPlayer(new BotPlayer("Seat " + seat));
+                    }
+                    builders.add(builder);
+                    cells.add(new SweepResult.Cell(boardIndex, board, diceCount, mix, builder.build(), new SimulationResult(players)));
+                }
+            }
+        }
+        long slicesPerCell = (gamesPerCell + sliceSize - 1) / sliceSize;
+        long slices = slicesPerCell * cells.size();
+        if (slices > 0) {
+            pool.invoke(new SliceTask(cells, builders, 0, slices));
+        }
+        return new SweepResult(cells, players);
+    }
+    
+    private void validate() {
+        if (boards.isEmpty()) throw new IllegalArgumentException("At least one board is required");
+        if (diceCounts.length == 0) throw new IllegalArgumentException("At least one dice count is required");
+        for (int diceCount : diceCounts) {
+            if (diceCount <= 0) throw new IllegalArgumentException("Dice count must be positive");
+        }
+        if (players <= 0) throw new IllegalArgumentException("At least one player is required");
+        if (gamesPerCell < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        if (sliceSize <= 0) throw new IllegalArgumentException("Slice size must be positive");
+        if (turnLimit <= 0) throw new IllegalArgumentException("Turn limit must be positive");
+        if (pool == null) throw new IllegalArgumentException("Pool cannot be null");
+    }
+    
+    @SuppressWarnings("serial")
+    private class SliceTask extends RecursiveAction {
+        private final List<SweepResult.Cell> cells;
+        private final List<Game.Builder> builders;
+        private final long from, to;
+        
+        SliceTask(List<SweepResult.Cell> cells, List<Game.Builder> builders, long from, long to) {
+            this.cells = cells;
+            this.builders = builders;
+            this.from = from;
+            this.to = to;
+        }
+        
+        protected void compute() {
+            if (to - from == 1) {
+                playSlice((int) (from % cells.size()), from / cells.size());
+                return;
+            }
+            long mid = (from + to) >>> 1;
+            invokeAll(new SliceTask(cells, builders, from, mid), new SliceTask(cells, builders, mid, to));
+        }
+        
+        // Slice i of every cell rolls the same seeded stream, so cells differ by their rules rather than by luck,
+        // and merging is order-independent, so results do not depend on scheduling
+        private void playSlice(int cellIndex, long slice) {
+            SweepResult.Cell cell = cells.get(cellIndex);
+            long count = Math.min(sliceSize, gamesPerCell - slice * sliceSize);
+            DiceService dice = new DiceService(cell.getDiceCount(), SimulationEngine.gameSeed(seed, slice));
+            Game game = builders.get(cellIndex).copy().withDiceService(dice).build();
+            SimulationResult partial = new SimulationResult(players);
+            for (long i = 0; i < count; i++) {
+                game.reset();
+                game.playTurns(turnLimit);
+                if (game.isGameOver()) {
+                    partial.record(game);
+                } else {
+                    partial.recordUnfinished();
+                }
+            }
+            cell.merge(partial);
+        }
+    }
+}
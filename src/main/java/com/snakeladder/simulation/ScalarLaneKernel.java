@@ -0,0 +1,72 @@
+package com.snakeladder.simulation;
+
+final class ScalarLaneKernel implements LaneKernel {
+    
+    public int advance(LaneState s) {
+        final int lanes = s.lanes;
+        int finished = 0;
+        for (int lane = 0; lane < s.width; lane++) {
+            if (s.active[lane] == 0) continue;
+            int seat = s.current[lane];
+            int index = seat * lanes + lane;
+            s.turns[lane]++;
+            if (advanceSeat(s, lane, seat, index)) {
+                s.current[lane] = seat + 1 == s.seats ? 0 : seat + 1;
+            } else if (s.winner[lane] >= 0) {
+                s.finished[finished++] = lane;
+            }
+        }
+        return finished;
+    }
+    
+    // Returns whether play passes to the next seat
+    private static boolean advanceSeat(LaneState s, int lane, int seat, int index) {
+        if (s.skip[index] != 0) {
+            s.skip[index] = 0;
+            return true;
+        }
+        int roll = s.rolls[lane];
+        if (s.started[index] == 0) {
+            if (s.sixToStart && roll != 6) return true;
+            s.started[index] = 1;
+        }
+        int sixes = roll == 6 ? s.sixes[index] + 1 : 0;
+        if (sixes >= 3) {
+            s.sixes[index] = 0;
+            if (s.restartOnSixes) {
+                s.positions[index] = 0;
+                s.started[index] = 0;
+            } else {
+                s.skip[index] = 1;
+            }
+            return true;
+        }
+        s.sixes[index] = sixes;
+        
+        int position = s.positions[index];
+        int target = position + roll;
+        if (s.exactWin ? target == s.boardSize : target >= s.boardSize) {
+            s.positions[index] = s.boardSize;
+            s.winner[lane] = seat;
+            return false;
+        }
+        int landed = target > s.boardSize ? position : target;
+        int destination = s.jumps[landed];
+        if (destination < landed) {
+            s.snakeHits[lane]++;
+        } else if (destination > landed) {
+            s.ladderHits[lane]++;
+        }
+        s.positions[index] = destination;
+        
+        if (s.killCollision) {
+            for (int other = 0, offset = lane; other < s.seats; other++, offset += s.lanes) {
+                if (other != seat && s.positions[offset] == destination) {
+                    s.positions[offset] = 0;
+                    s.started[offset] = 0;
+                }
+            }
+        }
+        return !(s.rollAgainOnSix && roll == 6);
+    }
+}
@@ -0,0 +1,76 @@
+package com.snakeladder.simulation;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+// Where and how often SimulationEngine saves a seeded batch. The file holds the partial aggregates and
+// how many games are done; since every game is played from a seed derived from its index, that is
+// all a resumed run needs to finish with exactly the result of an uninterrupted one.
+public final class SimulationCheckpoint {
+    private static final int MAGIC = 0x534C4350;
+    private static final byte VERSION = 2;
+    
+    private final Path path;
+    private final long interval;
+    
+    public SimulationCheckpoint(Path path, long interval) {
+        if (path == null) throw new IllegalArgumentException("Checkpoint path cannot be null");
+        if (interval <= 0) throw new IllegalArgumentException("Checkpoint interval must be positive");
+        this.path = path;
+        this.interval = interval;
+    }
+    
+    public Path getPath() { return path; }
+    public long getInterval() { return interval; }
+    
+    public boolean exists() {
+        return Files.exists(path);
+    }
+    
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+    
+    // Returns the saved partial result, or null when there is nothing to resume
+    SimulationResult load(long fingerprint, long seed, long games) throws IOException {
+        if (!Files.exists(path)) return null;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a simulation checkpoint: " + path);
+            byte version = in.readByte();
+            if (version != VERSION) throw new IOException("Unsupported checkpoint version " + version);
+            if (in.readLong() != fingerprint || in.readLong() != seed || in.readLong() != games) {
+                throw new IllegalStateException("Checkpoint " + path + " belongs to a different simulation run");
+            }
+            SimulationResult result = SimulationResult.readFrom(in);
+            if (result.getPlayedGames() > games) throw new IOException("Corrupt checkpoint: " + path);
+            return result;
+        }
+    }
+    
+    // Writes a sibling temp file, forces it to disk and renames it over the checkpoint, so a crash
+    // at any point leaves either the previous checkpoint or the new one
+    void save(long fingerprint, long seed, long games, SimulationResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(fingerprint);
+        out.writeLong(seed);
+        out.writeLong(games);
+        result.writeTo(out);
+        out.flush();
+        
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,124 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.interfaces.Player;
+import com.snakeladder.services.DiceService;
+import java.io.IOException;
+
+public class SimulationEngine {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    static final int DEFAULT_TURN_LIMIT = 10_000;
+    
+    private final Game.Builder builder;
+    private final int seats;
+    private int turnLimit = DEFAULT_TURN_LIMIT;
+    
+    public SimulationEngine(Game.Builder builder) {
+        this.builder = builder.copy().withEventListener(null).withSharedBoard(true);
+        Game probe = this.builder.build();
+        this.builder.withBoard(probe.getBoard());
+        this.seats = probe.getPlayerCount();
+    }
+    
+    // Games still running after this many turns are counted as unfinished; some rule mixes cannot always
+    // finish, e.g. exact win with two dice from the square before the last
+    public SimulationEngine withTurnLimit(int turnLimit) {
+        if (turnLimit <= 0) throw new IllegalArgumentException("Turn limit must be positive");
+        this.turnLimit = turnLimit;
+        return this;
+    }
+    
+    public int getTurnLimit() { return turnLimit; }
+    
+    public SimulationResult run(long games) {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        SimulationResult result = new SimulationResult(seats);
+        Game game = builder.build();
+        for (long i = 0; i < games; i++) {
+            play(game, result);
+        }
+        return result;
+    }
+    
+    private void play(Game game, SimulationResult result) {
+        game.reset();
+        game.playTurns(turnLimit);
+        if (game.isGameOver()) {
+            result.record(game);
+        } else {
+            result.recordUnfinished();
+        }
+    }
+    
+    // Plays every game from its own seed and streams one record per game to the sink; a recorded game
+    // replays exactly with new DiceService(diceCount, seed)
+    public SimulationResult run(long games, long seed, ResultFileWriter sink) throws IOException {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        Game probe = builder.build();
+        EntityHitCounter hits = new EntityHitCounter(probe.getBoard());
+        if (sink.getSeatCount() != seats || sink.getEntityCount() != hits.hits().length) {
+            throw new IllegalArgumentException("Result file was created for a different configuration");
+        }
+        DiceService dice = new DiceService(probe.getDiceService().getDiceCount(), seed);
+        Game game = builder.copy().withDiceService(dice).withEventListener(hits).build();
+        SimulationResult result = new SimulationResult(seats);
+        for (long i = 0; i < games; i++) {
+            long gameSeed = gameSeed(seed, i);
+            dice.reseed(gameSeed);
+            hits.clear();
+            play(game, result);
+            sink.append(gameSeed, game.getWinnerIndex(), game.getTurnCount(), hits.hits());
+        }
+        return result;
+    }
+    
+    // Same games as run(games, seed, sink), saving progress every checkpoint interval. When the checkpoint
+    // file already holds progress for this configuration, seed and game count, the run picks up from it.
+    public SimulationResult run(long games, long seed, SimulationCheckpoint checkpoint) throws IOException {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        Game probe = builder.build();
+        long fingerprint = fingerprint(probe);
+        SimulationResult result = checkpoint.load(fingerprint, seed, games);
+        if (result == null) {
+            result = new SimulationResult(seats);
+        }
+        DiceService dice = new DiceService(probe.getDiceService().getDiceCount(), seed);
+        Game game = builder.copy().withDiceService(dice).build();
+        long interval = checkpoint.getInterval();
+        for (long i = result.getPlayedGames(); i < games; i++) {
+            dice.reseed(gameSeed(seed, i));
+            play(game, result);
+            if ((i + 1) % interval == 0 && i + 1 < games) {
+                checkpoint.save(fingerprint, seed, games, result);
+            }
+        }
+        checkpoint.save(fingerprint, seed, games, result);
+        return result;
+    }
+    
+    // The i-th value of new SplittableRandom(seed).nextLong(), computed directly so a run can start anywhere
+    static long gameSeed(long seed, long index) {
+        long z = seed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+    
+    private long fingerprint(Game probe) {
+        long hash = probe.getBoard().contentHash();
+        hash = hash * 31 + seats;
+        hash = hash * 31 + probe.getDiceService().getDiceCount();
+        hash = hash * 31 + probe.getWinningStrategy().getClass().getName().hashCode();
+        hash = hash * 31 + probe.getStartStrategy().getClass().getName().hashCode();
+        hash = hash * 31 + probe.getSpecialRule().getClass().getName().hashCode();
+        hash = hash * 31 + probe.getCollisionStrategy().getClass().getName().hashCode();
+        hash = hash * 31 + probe.getTurnContinuationStrategy().getClass().getName().hashCode();
+        hash = hash * 31 + (probe.isDiceChoice() ? 1 : 0);
+        hash = hash * 31 + turnLimit;
+        // Under dice choice the player classes decide the moves
+        for (Player player : probe.getPlayers()) {
+            hash = hash * 31 + player.getClass().getName().hashCode();
+        }
+        return hash;
+    }
+}
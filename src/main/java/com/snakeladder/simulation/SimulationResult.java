@@ -0,0 +1,160 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class SimulationResult {
+    private final long[] winsPerSeat;
+    private long[] turnHistogram = new long[64];
+    private long games = 0;
+    private long totalTurns = 0;
+    private int maxTurns = 0;
+    private long snakeHits = 0;
+    private long ladderHits = 0;
+    private long unfinished = 0;
+    
+    public SimulationResult(int seats) {
+        this.winsPerSeat = new long[seats];
+    }
+    
+    void record(Game game) {
+        record(game.getWinnerIndex(), game.getTurnCount(), game.getSnakeHits(), game.getLadderHits());
+    }
+    
+    // Games cut off at a turn limit are only counted; their truncated turns would skew the statistics
+    void recordUnfinished() {
+        unfinished++;
+    }
+    
+    void record(int winnerSeat, int turns, int snakes, int ladders) {
+        games++;
+        if (winnerSeat >= 0) {
+            winsPerSeat[winnerSeat]++;
+        }
+        if (turns >= turnHistogram.length) {
+            turnHistogram = Arrays.copyOf(turnHistogram, Math.max(turns + 1, turnHistogram.length * 2));
+        }
+        turnHistogram[turns]++;
+        totalTurns += turns;
+        maxTurns = Math.max(maxTurns, turns);
+        snakeHits += snakes;
+        ladderHits += ladders;
+    }
+    
+    void merge(SimulationResult other) {
+        if (other.winsPerSeat.length != winsPerSeat.length) {
+            throw new IllegalArgumentException("Cannot merge results with different seat counts");
+        }
+        for (int seat = 0; seat < winsPerSeat.length; seat++) {
+            winsPerSeat[seat] += other.winsPerSeat[seat];
+        }
+        if (other.maxTurns >= turnHistogram.length) {
+            turnHistogram = Arrays.copyOf(turnHistogram, other.maxTurns + 1);
+        }
+        for (int turns = 0; turns <= other.maxTurns; turns++) {
+            turnHistogram[turns] += other.turnHistogram[turns];
+        }
+        games += other.games;
+        totalTurns += other.totalTurns;
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        snakeHits += other.snakeHits;
+        ladderHits += other.ladderHits;
+        unfinished += other.unfinished;
+    }
+    
+    void writeTo(DataOutput out) throws IOException {
+        out.writeShort(winsPerSeat.length);
+        for (long wins : winsPerSeat) {
+            out.writeLong(wins);
+        }
+        out.writeLong(games);
+        out.writeLong(totalTurns);
+        out.writeLong(snakeHits);
+        out.writeLong(ladderHits);
+        out.writeLong(unfinished);
+        out.writeInt(maxTurns);
+        for (int turns = 0; turns <= maxTurns; turns++) {
+            out.writeLong(turnHistogram[turns]);
+        }
+    }
+    
+    static SimulationResult readFrom(DataInput in) throws IOException {
+        SimulationResult result = new SimulationResult(in.readShort());
+        for (int seat = 0; seat < result.winsPerSeat.length; seat++) {
+            result.winsPerSeat[seat] = in.readLong();
+        }
+        result.games = in.readLong();
+        result.totalTurns = in.readLong();
+        result.snakeHits = in.readLong();
+        result.ladderHits = in.readLong();
+        result.unfinished = in.readLong();
+        result.maxTurns = in.readInt();
+        if (result.maxTurns < 0) throw new IOException("Corrupt turn histogram");
+        result.turnHistogram = new long[Math.max(64, result.maxTurns + 1)];
+        for (int turns = 0; turns <= result.maxTurns; turns++) {
+            result.turnHistogram[turns] = in.readLong();
+        }
+        return result;
+    }
+    
+    public long getGames() { return games; }
+    public int getSeatCount() { return winsPerSeat.length; }
+    public long getWins(int seat) { return winsPerSeat[seat]; }
+    public long[] getWinsPerSeat() { return winsPerSeat.clone(); }
+    public long getTotalTurns() { return totalTurns; }
+    public int getMaxTurns() { return maxTurns; }
+    public long getSnakeHits() { return snakeHits; }
+    public long getLadderHits() { return ladderHits; }
+    public long getUnfinishedGames() { return unfinished; }
+    
+    // Finished and unfinished games together; getGames() counts finished games only
+    public long getPlayedGames() {
+        return games + unfinished;
+    }
+    
+    public double getUnfinishedRate() {
+        long played = getPlayedGames();
+        return played == 0 ? 0.0 : (double) unfinished / played;
+    }
+    
+    public long[] getTurnHistogram() {
+        return Arrays.copyOf(turnHistogram, maxTurns + 1);
+    }
+    
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsPerSeat[seat] / games;
+    }
+    
+    public double getMeanTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+    
+    public int getTurnPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        if (games == 0) return 0;
+        long threshold = (long) Math.ceil(games * percentile / 100.0);
+        long seen = 0;
+        for (int turns = 0; turns <= maxTurns; turns++) {
+            seen += turnHistogram[turns];
+            if (seen >= Math.max(threshold, 1)) return turns;
+        }
+        return maxTurns;
+    }
+    
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SimulationResult[").append(games).append(" games, mean turns ")
+            .append(String.format("%.2f", getMeanTurns()))
+            .append(", snake hits ").append(snakeHits)
+            .append(", ladder hits ").append(ladderHits)
+            .append(", wins ").append(Arrays.toString(winsPerSeat));
+        if (unfinished > 0) {
+            sb.append(", unfinished ").append(unfinished);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.models.Board;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+
+public class SweepResult {
+    private final List<Cell> cells;
+    private final int seats;
+    
+    SweepResult(List<Cell> cells, int seats) {
+        this.cells = Collections.unmodifiableList(cells);
+        this.seats = seats;
+    }
+    
+    public List<Cell> getCells() { return cells; }
+    public int getSeatCount() { return seats; }
+    
+    public Cell getCell(int boardIndex, int diceCount, int mix) {
+        for (Cell cell : cells) {
+            if (cell.boardIndex == boardIndex && cell.diceCount == diceCount && cell.mix == mix) return cell;
+        }
+        throw new IllegalArgumentException("No cell for board " + boardIndex + ", " + diceCount + " dice, mix " + mix);
+    }
+    
+    public void writeCsv(Appendable out) throws IOException {
+        out.append("board,size,dice,win,start,special,collision,continuation,games,unfinished,unfinished_rate,mean_turns,p50_turns,p99_turns");
+        for (int seat = 0; seat < seats; seat++) {
+            out.append(",win_rate_").append(String.valueOf(seat + 1));
+        }
+        out.append('\n');
+        for (Cell cell : cells) {
+            SimulationResult result = cell.getResult();
+            out.append(String.valueOf(cell.boardIndex)).append(',')
+                .append(String.valueOf(cell.board.getSize())).append(',')
+                .append(String.valueOf(cell.diceCount)).append(',')
+                .append(String.join(",", cell.strategies)).append(',')
+                .append(String.valueOf(cell.getGames())).append(',')
+                .append(String.valueOf(cell.getUnfinishedGames())).append(',')
+                .append(String.format("%.4f", cell.getUnfinishedRate())).append(',')
+                .append(String.format("%.3f", result.getMeanTurns())).append(',')
+                .append(String.valueOf(result.getTurnPercentile(50))).append(',')
+                .append(String.valueOf(result.getTurnPercentile(99)));
+            for (int seat = 0; seat < seats; seat++) {
+                out.append(',').append(String.format("%.4f", result.getWinRate(seat)));
+            }
+            out.append('\n');
+        }
+    }
+    
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeCsv(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+    
+    public static final class Cell {
+        private final int boardIndex;
+        private final Board board;
+        private final int diceCount;
+        private final int mix;
+        private final String[] strategies;
+        private final SimulationResult result;
+        
+        Cell(int boardIndex, Board board, int diceCount, int mix, Game probe, SimulationResult result) {
+            this.boardIndex = boardIndex;
+            this.board = board;
+            this.diceCount = diceCount;
+            this.mix = mix;
+            this.strategies = new String[] {
+                probe.getWinningStrategy().getClass().getSimpleName(),
+                probe.getStartStrategy().getClass().getSimpleName(),
+                probe.getSpecialRule().getClass().getSimpleName(),
+                probe.getCollisionStrategy().getClass().getSimpleName(),
+                probe.getTurnContinuationStrategy().getClass().getSimpleName()
+            };
+            this.result = result;
+        }
+        
+        synchronized void merge(SimulationResult partial) {
+            result.merge(partial);
+        }
+        
+        public int getBoardIndex() { return boardIndex; }
+        public Board getBoard() { return board; }
+        public int getDiceCount() { return diceCount; }
+        public int getMix() { return mix; }
+        public String getWinningStrategy() { return strategies[0]; }
+        public String getStartStrategy() { return strategies[1]; }
+        public String getSpecialRule() { return strategies[2]; }
+        public String getCollisionStrategy() { return strategies[3]; }
+        public String getTurnContinuationStrategy() { return strategies[4]; }
+        
+        public SimulationResult getResult() {
+            return result;
+        }
+        
+        public long getGames() {
+            return result.getPlayedGames();
+        }
+        
+        public long getUnfinishedGames() {
+            return result.getUnfinishedGames();
+        }
+        
+        public double getUnfinishedRate() {
+            return result.getUnfinishedRate();
+        }
+    }
+}
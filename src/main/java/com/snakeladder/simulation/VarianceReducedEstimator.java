@@ -0,0 +1,124 @@
+package com.snakeladder.simulation;
+
+import com.snakeladder.Game;
+import com.snakeladder.services.DiceService;
+import java.util.function.ToDoubleFunction;
+
+// Estimates a per-game metric (turn count by default) from seeded games, with two variance-reduction options:
+// antithetic dice pair every game with its mirrored twin, and common random numbers give both variants of a
+// comparison the same seed for the same game, so their difference reflects the rules rather than the dice.
+public class VarianceReducedEstimator {
+    private static final long INDEPENDENT_STREAM = 0x5DEECE66DL;
+    
+    private final Game.Builder builder;
+    private ToDoubleFunction<Game> metric = Game::getTurnCount;
+    private boolean antithetic = false;
+    private boolean commonRandomNumbers = true;
+    private int turnLimit = SimulationEngine.DEFAULT_TURN_LIMIT;
+    
+    public VarianceReducedEstimator(Game.Builder builder) {
+        this.builder = prepare(builder);
+    }
+    
+    private static Game.Builder prepare(Game.Builder builder) {
+        Game.Builder copy = builder.copy().withEventListener(null);
+        copy.withBoard(copy.build().getBoard());
+        return copy;
+    }
+    
+    public VarianceReducedEstimator withMetric(ToDoubleFunction<Game> metric) {
+        if (metric == null) throw new IllegalArgumentException("Metric cannot be null");
+        this.metric = metric;
+        return this;
+    }
+    
+    public VarianceReducedEstimator withAntitheticDice(boolean antithetic) {
+        this.antithetic = antithetic;
+        return this;
+    }
+    
+    public VarianceReducedEstimator withCommonRandomNumbers(boolean commonRandomNumbers) {
+        this.commonRandomNumbers = commonRandomNumbers;
+        return this;
+    }
+    
+    // Observations with a game still running after this many turns are left out, with the whole pair or
+    // comparison they belong to, and counted as unfinished
+    public VarianceReducedEstimator withTurnLimit(int turnLimit) {
+        if (turnLimit <= 0) throw new IllegalArgumentException("Turn limit must be positive");
+        this.turnLimit = turnLimit;
+        return this;
+    }
+    
+    public Estimate estimate(long games, long seed) {
+        long observations = observations(games);
+        Runner runner = new Runner(builder, seed);
+        Estimate.Accumulator accumulator = new Estimate.Accumulator();
+        long unfinished = 0;
+        for (long i = 0; i < observations; i++) {
+            double value = runner.observe(SimulationEngine.gameSeed(seed, i));
+            if (Double.isNaN(value)) {
+                unfinished++;
+            } else {
+                accumulator.add(value);
+            }
+        }
+        return accumulator.toEstimate(games, unfinished);
+    }
+    
+    // Plays the given number of games on each variant; without common random numbers the second
+    // variant rolls from an unrelated seed sequence
+    public EstimateComparison compare(Game.Builder other, long games, long seed) {
+        long observations = observations(games);
+        long otherSeed = commonRandomNumbers ? seed : seed ^ INDEPENDENT_STREAM;
+        Runner first = new Runner(builder, seed);
+        Runner second = new Runner(prepare(other), otherSeed);
+        Estimate.Accumulator firstValues = new Estimate.Accumulator();
+        Estimate.Accumulator secondValues = new Estimate.Accumulator();
+        Estimate.Accumulator differences = new Estimate.Accumulator();
+        long unfinished = 0;
+        for (long i = 0; i < observations; i++) {
+            double a = first.observe(SimulationEngine.gameSeed(seed, i));
+            double b = second.observe(SimulationEngine.gameSeed(otherSeed, i));
+            if (Double.isNaN(a) || Double.isNaN(b)) {
+                unfinished++;
+                continue;
+            }
+            firstValues.add(a);
+            secondValues.add(b);
+            differences.add(a - b);
+        }
+        return new EstimateComparison(firstValues.toEstimate(games, unfinished), secondValues.toEstimate(games, unfinished),
+            differences.toEstimate(games, unfinished));
+    }
+    
+    private long observations(long games) {
+        if (games < 0) throw new IllegalArgumentException("Game count cannot be negative");
+        if (antithetic && games % 2 != 0) throw new IllegalArgumentException("Antithetic games come in pairs; use an even count");
+        return antithetic ? games / 2 : games;
+    }
+    
+    private final class Runner {
+        private final DiceService dice;
+        private final Game game;
+        
+        Runner(Game.Builder builder, long seed) {
+            this.dice = new DiceService(builder.build().getDiceService().getDiceCount(), seed);
+            this.game = builder.copy().withDiceService(dice).build();
+        }
+        
+        // NaN when a game was cut off at the turn limit
+        double observe(long gameSeed) {
+            double value = play(gameSeed, false);
+            return antithetic ? (value + play(gameSeed, true)) / 2 : value;
+        }
+        
+        private double play(long gameSeed, boolean mirrored) {
+            dice.reseed(gameSeed);
+            dice.setMirrored(mirrored);
+            game.reset();
+            game.playTurns(turnLimit);
+            return game.isGameOver() ? metric.applyAsDouble(game) : Double.NaN;
+        }
+    }
+}
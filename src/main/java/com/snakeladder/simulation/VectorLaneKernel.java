@@ -0,0 +1,121 @@
+package com.snakeladder.simulation;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LT;
+import static jdk.incubator.vector.VectorOperators.NE;
+
+// Same rules as ScalarLaneKernel, one vector of lanes at a time. Masked gathers and stores are not
+// intrinsified on JDK 17, so the current seat's state is selected from each seat row with blends
+// and written back with full-width stores; only the jump table is read with a gather.
+final class VectorLaneKernel implements LaneKernel {
+    // Capped at 256 bits: the JDK 17 incubator crashed in C2-compiled code for this kernel at 512 bits
+    private static final VectorSpecies<Integer> SPECIES =
+        IntVector.SPECIES_PREFERRED.vectorBitSize() > 256 ? IntVector.SPECIES_256 : IntVector.SPECIES_PREFERRED;
+    
+    private final int[] squareIndex = new int[SPECIES.length()];
+    
+    private VectorLaneKernel() {}
+    
+    static LaneKernel create() {
+        return new VectorLaneKernel();
+    }
+    
+    static int width() {
+        return SPECIES.length();
+    }
+    
+    public int advance(LaneState s) {
+        final int lanes = s.lanes;
+        final int seats = s.seats;
+        final int size = s.boardSize;
+        final IntVector zero = IntVector.zero(SPECIES);
+        final VectorMask<Integer> none = SPECIES.maskAll(false);
+        int finished = 0;
+        
+        for (int base = 0; base < s.width; base += SPECIES.length()) {
+            VectorMask<Integer> live = IntVector.fromArray(SPECIES, s.active, base).compare(NE, 0);
+            if (!live.anyTrue()) continue;
+            IntVector seat = IntVector.fromArray(SPECIES, s.current, base);
+            
+            IntVector position = zero, started = zero, sixes = zero, skip = zero;
+            for (int other = 0, offset = base; other < seats; other++, offset += lanes) {
+                VectorMask<Integer> mine = seat.compare(EQ, other);
+                position = position.blend(IntVector.fromArray(SPECIES, s.positions, offset), mine);
+                started = started.blend(IntVector.fromArray(SPECIES, s.started, offset), mine);
+                sixes = sixes.blend(IntVector.fromArray(SPECIES, s.sixes, offset), mine);
+                skip = skip.blend(IntVector.fromArray(SPECIES, s.skip, offset), mine);
+            }
+            IntVector turns = IntVector.fromArray(SPECIES, s.turns, base);
+            turns.blend(turns.add(1), live).intoArray(s.turns, base);
+            
+            VectorMask<Integer> skipping = skip.compare(NE, 0).and(live);
+            skip = skip.blend(0, skipping);
+            VectorMask<Integer> acting = live.andNot(skipping);
+            
+            IntVector roll = IntVector.fromArray(SPECIES, s.rolls, base);
+            VectorMask<Integer> six = roll.compare(EQ, 6);
+            VectorMask<Integer> fresh = started.compare(EQ, 0).and(acting);
+            VectorMask<Integer> blocked = s.sixToStart ? fresh.andNot(six) : none;
+            acting = acting.andNot(blocked);
+            started = started.blend(1, fresh.andNot(blocked));
+            
+            IntVector counted = sixes.add(1).blend(0, six.not());
+            VectorMask<Integer> third = counted.compare(GE, 3).and(acting);
+            sixes = sixes.blend(counted.blend(0, third), acting);
+            if (s.restartOnSixes) {
+                position = position.blend(0, third);
+                started = started.blend(0, third);
+            } else {
+                skip = skip.blend(1, third);
+            }
+            acting = acting.andNot(third);
+            
+            IntVector target = position.add(roll);
+            VectorMask<Integer> won = (s.exactWin ? target.compare(EQ, size) : target.compare(GE, size)).and(acting);
+            if (won.anyTrue()) {
+                position = position.blend(size, won);
+                IntVector.fromArray(SPECIES, s.winner, base).blend(seat, won).intoArray(s.winner, base);
+                for (long bits = won.toLong(); bits != 0; bits &= bits - 1) {
+                    s.finished[finished++] = base + Long.numberOfTrailingZeros(bits);
+                }
+                acting = acting.andNot(won);
+            }
+            
+            IntVector landed = target.blend(position, target.compare(GT, size)).blend(0, acting.not());
+            landed.intoArray(squareIndex, 0);
+            IntVector destination = IntVector.fromArray(SPECIES, s.jumps, 0, squareIndex, 0);
+            IntVector snakes = IntVector.fromArray(SPECIES, s.snakeHits, base);
+            snakes.blend(snakes.add(1), destination.compare(LT, landed).and(acting)).intoArray(s.snakeHits, base);
+            IntVector ladders = IntVector.fromArray(SPECIES, s.ladderHits, base);
+            ladders.blend(ladders.add(1), destination.compare(GT, landed).and(acting)).intoArray(s.ladderHits, base);
+            position = position.blend(destination, acting);
+            
+            for (int other = 0, offset = base; other < seats; other++, offset += lanes) {
+                VectorMask<Integer> mine = seat.compare(EQ, other);
+                IntVector rowPosition = IntVector.fromArray(SPECIES, s.positions, offset).blend(position, mine);
+                IntVector rowStarted = IntVector.fromArray(SPECIES, s.started, offset).blend(started, mine);
+                if (s.killCollision) {
+                    VectorMask<Integer> hit = rowPosition.compare(EQ, destination).and(acting).andNot(mine);
+                    rowPosition = rowPosition.blend(0, hit);
+                    rowStarted = rowStarted.blend(0, hit);
+                }
+                rowPosition.intoArray(s.positions, offset);
+                rowStarted.intoArray(s.started, offset);
+                IntVector.fromArray(SPECIES, s.sixes, offset).blend(sixes, mine).intoArray(s.sixes, offset);
+                IntVector.fromArray(SPECIES, s.skip, offset).blend(skip, mine).intoArray(s.skip, offset);
+            }
+            
+            VectorMask<Integer> passes = live.andNot(won);
+            if (s.rollAgainOnSix) passes = passes.andNot(six.and(acting));
+            IntVector next = seat.add(1);
+            seat.blend(next.blend(0, next.compare(EQ, seats)), passes).intoArray(s.current, base);
+        }
+        return finished;
+    }
+}
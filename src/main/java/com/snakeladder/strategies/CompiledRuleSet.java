@@ -0,0 +1,144 @@
+package com.snakeladder.strategies;
+
+import com.snakeladder.interfaces.*;
+import com.snakeladder.models.OccupancyIndex;
+import com.snakeladder.models.PlayerStateStore;
+import java.util.List;
+
+// Fuses a game's five strategies into one final class. Built-in strategies are inlined as switch
+// cases on fields fixed at compile time, so a turn makes no interface calls however many rule mixes
+// share the JIT profile; any other strategy is called through its interface as before.
+public final class CompiledRuleSet {
+    private static final int CUSTOM = 0;
+    
+    private static final int EXACT_WIN = 1;
+    private static final int OVERSHOOT_WIN = 2;
+    
+    private static final int NORMAL_START = 1;
+    private static final int SIX_TO_START = 2;
+    
+    private static final int RESTART_ON_THREE_SIXES = 1;
+    private static final int SKIP_ON_THREE_SIXES = 2;
+    
+    private static final int NO_COLLISION = 1;
+    private static final int KILL_COLLISION = 2;
+    
+    private static final int NO_EXTRA_TURNS = 1;
+    private static final int ROLL_AGAIN_ON_SIX = 2;
+    
+    private final WinningStrategy winStrategy;
+    private final GameStartStrategy startStrategy;
+    private final SpecialRuleStrategy specialRule;
+    private final CollisionStrategy collisionStrategy;
+    private final TurnContinuationStrategy turnContinuationStrategy;
+    private final int win;
+    private final int start;
+    private final int special;
+    private final int collision;
+    private final int continuation;
+    
+    private CompiledRuleSet(WinningStrategy winStrategy, GameStartStrategy startStrategy, SpecialRuleStrategy specialRule,
+                            CollisionStrategy collisionStrategy, TurnContinuationStrategy turnContinuationStrategy) {
+        this.winStrategy = winStrategy;
+        this.startStrategy = startStrategy;
+        this.specialRule = specialRule;
+        this.collisionStrategy = collisionStrategy;
+        this.turnContinuationStrategy = turnContinuationStrategy;
+        this.win = kind(winStrategy, ExactWinStrategy.class, OvershootWinStrategy.class);
+        this.start = kind(startStrategy, NormalStartStrategy.class, SixToStartStrategy.class);
+        this.special = kind(specialRule, RestartOnThreeSixesStrategy.class, SkipTurnOnThreeSixesStrategy.class);
+        this.collision = kind(collisionStrategy, NoCollisionStrategy.class, KillCollisionStrategy.class);
+        this.continuation = kind(turnContinuationStrategy, NoExtraTurnsStrategy.class, RollAgainOnSixStrategy.class);
+    }
+    
+    public static CompiledRuleSet compile(WinningStrategy winStrategy, GameStartStrategy startStrategy,
+                                          SpecialRuleStrategy specialRule, CollisionStrategy collisionStrategy,
+                                          TurnContinuationStrategy turnContinuationStrategy) {
+        return new CompiledRuleSet(winStrategy, startStrategy, specialRule, collisionStrategy, turnContinuationStrategy);
+    }
+    
+    // Subclasses of the built-ins may override their behaviour, so only exact classes are inlined
+    private static int kind(Object strategy, Class<?> first, Class<?> second) {
+        if (strategy.getClass() == first) return 1;
+        if (strategy.getClass() == second) return 2;
+        return CUSTOM;
+    }
+    
+    public boolean canStart(int roll) {
+        switch (start) {
+            case NORMAL_START: return true;
+            case SIX_TO_START: return roll == 6;
+            default: return startStrategy.canStart(roll);
+        }
+    }
+    
+    // Returns false when the rule ends the turn, exactly like SpecialRuleStrategy.apply
+    public boolean applySpecialRule(PlayerStateStore state, List<Player> players, int seat, int roll) {
+        switch (special) {
+            case RESTART_ON_THREE_SIXES:
+                if (state.getConsecutiveSixes(seat) < 3) return true;
+                state.setPosition(seat, 0);
+                state.setStarted(seat, false);
+                state.resetSixes(seat);
+                return false;
+            case SKIP_ON_THREE_SIXES:
+                if (state.getConsecutiveSixes(seat) < 3) return true;
+                state.setSkipTurn(seat, true);
+                state.resetSixes(seat);
+                return false;
+            default:
+                return specialRule.apply(players.get(seat), state.getConsecutiveSixes(seat), roll);
+        }
+    }
+    
+    public int getNewPosition(int position, int roll, int boardSize) {
+        int target = position + roll;
+        switch (win) {
+            case EXACT_WIN: return target > boardSize ? position : target;
+            case OVERSHOOT_WIN: return Math.min(target, boardSize);
+            default: return winStrategy.getNewPosition(position, roll, boardSize);
+        }
+    }
+    
+    public boolean hasWon(int position, int roll, int boardSize) {
+        switch (win) {
+            case EXACT_WIN: return position + roll == boardSize;
+            case OVERSHOOT_WIN: return position + roll >= boardSize;
+            default: return winStrategy.hasWon(position, roll, boardSize);
+        }
+    }
+    
+    public void handleCollision(PlayerStateStore state, List<Player> players, int seat, int position,
+                                OccupancyIndex occupancy) {
+        switch (collision) {
+            case NO_COLLISION:
+                return;
+            case KILL_COLLISION:
+                if (occupancy.count(position) < 2) return;
+                int other = occupancy.first(position);
+                while (other != -1) {
+                    int next = occupancy.next(other);
+                    if (other != seat) {
+                        state.setPosition(other, 0);
+                        state.setStarted(other, false);
+                    }
+                    other = next;
+                }
+                return;
+            default:
+                collisionStrategy.handle(seat, players, position, occupancy);
+        }
+    }
+    
+    public boolean shouldContinueTurn(int roll) {
+        switch (continuation) {
+            case NO_EXTRA_TURNS: return false;
+            case ROLL_AGAIN_ON_SIX: return roll == 6;
+            default: return turnContinuationStrategy.shouldContinueTurn(roll);
+        }
+    }
+    
+    public boolean isFullyCompiled() {
+        return win != CUSTOM && start != CUSTOM && special != CUSTOM && collision != CUSTOM && continuation != CUSTOM;
+    }
+}
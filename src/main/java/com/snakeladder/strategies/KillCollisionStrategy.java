@@ -2,6 +2,7 @@ package com.snakeladder.strategies;
 
 import com.snakeladder.interfaces.CollisionStrategy;
 import com.snakeladder.interfaces.Player;
+import com.snakeladder.models.OccupancyIndex;
 import java.util.List;
 
 public class KillCollisionStrategy implements CollisionStrategy {
@@ -15,6 +16,20 @@ public class KillCollisionStrategy implements CollisionStrategy {
         }
     }
     
+    public void handle(int seat, List<Player> all, int position, OccupancyIndex occupancy) {
+        if (occupancy.count(position) < 2) return;
+        int other = occupancy.first(position);
+        while (other != -1) {
+            int next = occupancy.next(other);
+            if (other != seat) {
+                Player p = all.get(other);
+                p.setPosition(0);
+                p.setStarted(false);
+            }
+            other = next;
+        }
+    }
+    
     public String getRule() {
         return "Landing on another player sends them back to start";
     }
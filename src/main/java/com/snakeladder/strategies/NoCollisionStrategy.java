@@ -2,6 +2,7 @@ package com.snakeladder.strategies;
 
 import com.snakeladder.interfaces.CollisionStrategy;
 import com.snakeladder.interfaces.Player;
+import com.snakeladder.models.OccupancyIndex;
 import java.util.List;
 
 public class NoCollisionStrategy implements CollisionStrategy {
@@ -10,6 +11,10 @@ public class NoCollisionStrategy implements CollisionStrategy {
         // Do nothing
     }
     
+    public void handle(int seat, List<Player> all, int position, OccupancyIndex occupancy) {
+        // Do nothing
+    }
+    
     public String getRule() {
         return "Players can share the same position";
     }